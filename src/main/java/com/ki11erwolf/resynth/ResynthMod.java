@@ -15,6 +15,7 @@
  */
 package com.ki11erwolf.resynth;
 
+import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.proxy.ClientProxy;
 import com.ki11erwolf.resynth.proxy.Proxy;
 import com.ki11erwolf.resynth.proxy.ServerProxy;
@@ -115,6 +116,7 @@ public class ResynthMod {
 
     private void onFinishSetup(final FMLLoadCompleteEvent event) {
         LOG.info("Finishing Resynth setup...");
+        ResynthConfig.flushAll();
     }
 
     /**
@@ -39,6 +39,11 @@ public final class ResynthTabs {
      */
     private ResynthTabs(){}
 
+    /**
+     * Reference to the general config settings.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
     /**
      * The mods main creative tab. Used for general blocks/items.
      */
@@ -53,7 +58,7 @@ public final class ResynthTabs {
      */
     public static final ItemGroup TAB_RESYNTH_SEEDS = new ItemGroup("resynth_seeds") {
         @Override public ItemStack createIcon() {
-            if(ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).useRandomPlantTabItems()) {
+            if(GENERAL_CONFIG.useRandomPlantTabItems()) {
                 return new ItemStack(PlantSetAPI.getRandomSet().getSeedsItem());
             } else {
                 return new ItemStack(ResynthPlants.GOLD.getSeedsItem().getItem());
@@ -66,7 +71,7 @@ public final class ResynthTabs {
      */
     public static final ItemGroup TAB_RESYNTH_PRODUCE = new ItemGroup("resynth_produce") {
         @Override public ItemStack createIcon() {
-            if(ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).useRandomPlantTabItems()) {
+            if(GENERAL_CONFIG.useRandomPlantTabItems()) {
                 return new ItemStack(PlantSetAPI.getRandomSet().getProduceItem());
             } else {
                 return new ItemStack(ResynthPlants.SPIDER_EYE.getProduceItem().asItem());
@@ -15,6 +15,7 @@
  */
 package com.ki11erwolf.resynth.block;
 
+import com.ki11erwolf.resynth.plant.block.AutoHarvestSink;
 import com.ki11erwolf.resynth.util.ExpandingTooltip;
 import com.ki11erwolf.resynth.util.Tooltip;
 import net.minecraft.block.Block;
@@ -22,9 +23,11 @@ import net.minecraft.block.BlockState;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.util.ITooltipFlag;
 import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.IBlockReader;
+import net.minecraft.world.World;
 import net.minecraftforge.common.ToolType;
 
 import javax.annotation.Nullable;
@@ -96,6 +99,23 @@ public class BlockEnhancer extends ResynthBlock<BlockEnhancer>{
         return ToolType.PICKAXE;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Makes the plant above the Mineral Soil above this
+     * Enhancer look for a new auto-harvest inventory when
+     * the block below this Enhancer changes.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn,
+                                BlockPos fromPos, boolean isMoving) {
+        super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
+
+        if(fromPos.getY() < pos.getY())
+            AutoHarvestSink.invalidate(worldIn, pos.up(2));
+    }
+
     /**
      * @return the amount to increase the Mineral Soil content
      * by.
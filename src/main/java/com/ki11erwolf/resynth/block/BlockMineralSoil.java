@@ -15,12 +15,15 @@
  */
 package com.ki11erwolf.resynth.block;
 
+import com.ki11erwolf.resynth.block.soil.MineralSoilStorage;
 import com.ki11erwolf.resynth.block.tileEntity.ResynthTileEntity;
 import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.MineralSoilConfig;
 import com.ki11erwolf.resynth.item.ItemMineralHoe;
 import com.ki11erwolf.resynth.item.ResynthItems;
+import com.ki11erwolf.resynth.plant.block.AutoHarvestSink;
+import com.ki11erwolf.resynth.plant.block.GrowthModifierCache;
 import com.ki11erwolf.resynth.util.MinecraftUtil;
 import mcjty.theoneprobe.api.IProbeHitData;
 import mcjty.theoneprobe.api.IProbeInfo;
@@ -84,6 +87,11 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
     private static final MineralSoilConfig CONFIG
             = ResynthConfig.GENERAL_CONFIG.getCategory(MineralSoilConfig.class);
 
+    /**
+     * Where the Mineral Content of Mineral Soil blocks is stored.
+     */
+    private static final MineralSoilStorage STORAGE = MineralSoilStorage.get();
+
     /**
      * The Mineral Content stage this block is on. Determines
      * the texture of the block based on the Mineral Content.
@@ -91,6 +99,19 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
     private static final IntegerProperty STAGE
             = IntegerProperty.create("stage", 0, 4 + 2);
 
+    /**
+     * The number of times {@link #updateState} changed the stage of a
+     * Mineral Soil block. Server thread only.
+     */
+    private static long stateUpdates = 0;
+
+    /**
+     * The number of times {@link #updateState} found the stage of a
+     * Mineral Soil block already correct and skipped the update.
+     * Server thread only.
+     */
+    private static long suppressedStateUpdates = 0;
+
     /**
      * The shape and dimentions of the block.
      */
@@ -128,21 +149,68 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
      * on the Mineral Content of the block and any
      * Enhancer blocks underneath the Mineral Soil block.
      *
-     * @param mineralContent the blocks/tile entities Mineral Content.
+     * <p/>The block state is only written on the server, when
+     * the stage actually changes, and then only sent to clients -
+     * the stage is purely visual, so neighbours are not
+     * notified.
+     *
+     * @param mineralContent the blocks Mineral Content.
      * @param world the world the block is in.
      * @param state the state of the block. i.e. BlockState.
      * @param pos the BlockPos of the block in the world.
      */
     private void updateState(float mineralContent, World world, BlockState state, BlockPos pos){
+        if(world.isRemote)
+            return;
+
+        int stage = getStage(mineralContent, world, pos);
+
+        if(state.get(STAGE) == stage){
+            suppressedStateUpdates++;
+            return;
+        }
+
+        //2 = Send to clients only.
+        world.setBlockState(pos, state.with(STAGE, stage), 2);
+        stateUpdates++;
+    }
+
+    /**
+     * Computes the stage (texture) of a Mineral Soil block.
+     *
+     * @param mineralContent the blocks Mineral Content.
+     * @param world the world the block is in.
+     * @param pos the BlockPos of the block in the world.
+     * @return the stage the block should be on, based on its
+     * Mineral Content and the Enhancer (if any) below it.
+     */
+    private static int getStage(float mineralContent, World world, BlockPos pos){
         if(mineralContent > 49.9){
-            world.setBlockState(pos, state.with(STAGE, 4 + getStageIncrease(world, pos)));
+            return 4 + getStageIncrease(world, pos);
         } else if(mineralContent > 39.9){
-            world.setBlockState(pos, state.with(STAGE, 3));
+            return 3;
         } else if(mineralContent > 29.9){
-            world.setBlockState(pos, state.with(STAGE, 2));
+            return 2;
         } else if(mineralContent > 19.9){
-            world.setBlockState(pos, state.with(STAGE, 1));
-        } else world.setBlockState(pos, state.with(STAGE, 0));
+            return 1;
+        } else return 0;
+    }
+
+    /**
+     * @return the number of times the stage of a Mineral Soil
+     * block was changed since the game started.
+     */
+    public static long getStateUpdates(){
+        return stateUpdates;
+    }
+
+    /**
+     * @return the number of redundant Mineral Soil stage updates
+     * (where the stage was already correct) that were skipped
+     * since the game started.
+     */
+    public static long getSuppressedStateUpdates(){
+        return suppressedStateUpdates;
     }
 
     // *****
@@ -204,26 +272,33 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
     @Override
     public void onReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
         if (state.getBlock() != newState.getBlock()) {
-            //Checks
-            TileEntity tileentity = world.getTileEntity(pos);
-            if (!(tileentity instanceof TileEntityMineralSoil)) {
-                super.onReplaced(state, world, pos, newState, isMoving);
-            }
-
             //Mineral Rocks
-            assert tileentity != null;
-            assert tileentity instanceof TileEntityMineralSoil;
-            float content = ((TileEntityMineralSoil)tileentity).getMineralPercentage();
+            if(!world.isRemote) {
+                float content = STORAGE.onSoilRemoved(world, pos);
 
-            int rocks = (int)((content - CONFIG.getStartingMineralContent())/CONFIG.getMineralRockWorth());
-            InventoryHelper.spawnItemStack(
-                    world, pos.getX(), pos.getY(), pos.getZ(), new ItemStack(ResynthItems.ITEM_MINERAL_ROCK, rocks)
-            );
+                int rocks = (int)((content - CONFIG.getStartingMineralContent())/CONFIG.getMineralRockWorth());
+                InventoryHelper.spawnItemStack(
+                        world, pos.getX(), pos.getY(), pos.getZ(), new ItemStack(ResynthItems.ITEM_MINERAL_ROCK, rocks)
+                );
+            }
 
             super.onReplaced(state, world, pos, newState, isMoving);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p/>
+     * Gives newly placed Mineral Soil blocks the starting Mineral Content.
+     */
+    @Override
+    public void onBlockAdded(BlockState state, World world, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onBlockAdded(state, world, pos, oldState, isMoving);
+
+        if(!world.isRemote && oldState.getBlock() != this)
+            STORAGE.onSoilPlaced(world, pos);
+    }
+
     // ***********
     // Tile Entity
     // ***********
@@ -239,19 +314,25 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
 
     /**
      * {@inheritDoc}
-     * @return {@code new} {@link TileEntityMineralSoil}.
+     * @return {@code new} {@link TileEntityMineralSoil}, or {@code null}
+     * if the Mineral Content is not stored in tile entities.
      */
     @Override
     public TileEntity createTileEntity(BlockState state, IBlockReader world) {
-        return new TileEntityMineralSoil();
+        return STORAGE.usesTileEntities() ? new TileEntityMineralSoil() : null;
     }
 
     /**
      * {@inheritDoc}
+     * <p/>
+     * {@code false} when the Mineral Content is stored in the chunk,
+     * where any existing tile entities are migrated as their chunk
+     * loads ({@link com.ki11erwolf.resynth.block.soil.ChunkMineralContent})
+     * rather than loaded.
      */
     @Override
     public boolean hasTileEntity(BlockState state){
-        return true;
+        return STORAGE.usesTileEntities();
     }
 
     // *************
@@ -274,8 +355,7 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
     @Override
     public void addProbeInfo(ProbeMode mode, IProbeInfo probeInfo, PlayerEntity player,
                              World world, BlockState blockState, IProbeHitData data) {
-        TileEntityMineralSoil tile = getTileEntity(world, data.getPos());
-        float mineralContent = tile.getMineralPercentage();
+        float mineralContent = STORAGE.getMineralContent(world, data.getPos());
         float contentIncrease = getMineralContentIncrease(world, data.getPos());
         float max = 50.0F;
         float totalMineralContent = mineralContent + (mineralContent >= max ? contentIncrease : 0);
@@ -306,6 +386,10 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
      */
     @Override
     public void appendBody(List<ITextComponent> tooltip, IDataAccessor accessor, IPluginConfig config) {
+        //Only sent for blocks with a tile entity.
+        if(!accessor.getServerData().contains(TileEntityMineralSoil.MINERAL_CONTENT_TAG))
+            return;
+
         tooltip.add(new StringTextComponent(""));
         tooltip.add(new StringTextComponent(
                 getMineralContentMessage(
@@ -330,7 +414,7 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
 
         float mineralContent;
         clientServerNBT.putFloat(TileEntityMineralSoil.MINERAL_CONTENT_TAG,
-                (mineralContent = ((TileEntityMineralSoil) tileEntity).getMineralPercentage())
+                (mineralContent = STORAGE.getMineralContent(world, tileEntity.getPos()))
         );
 
         if(mineralContent >= 50.0)
@@ -355,9 +439,7 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
     public ActionResultType onBlockActivated(BlockState state, World world, BlockPos pos, PlayerEntity player,
                                            Hand hand, BlockRayTraceResult hit){
         ItemStack usedItem = player.getHeldItem(hand);
-        TileEntityMineralSoil entityMineralSoil = getTileEntity(world, pos);
-
-        float mineralContent = entityMineralSoil.getMineralPercentage();
+        float mineralContent = STORAGE.getMineralContent(world, pos);
         float increase;
 
         //At max mineral content
@@ -380,12 +462,13 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
             usedItem.shrink(1);
         }
 
-        entityMineralSoil.increaseMineralPercentage(increase);
-        updateState(entityMineralSoil.getMineralPercentage(), world, state, pos);
+        STORAGE.increaseMineralContent(world, pos, increase);
+        mineralContent = STORAGE.getMineralContent(world, pos);
+        updateState(mineralContent, world, state, pos);
 
         if(CONFIG.isChatMessageEnabled())
             player.sendMessage(new StringTextComponent(I18n.format(
-                    "misc.resynth.mineral_content", entityMineralSoil.getMineralPercentage()
+                    "misc.resynth.mineral_content", mineralContent
             ) + "%"), player.getUniqueID());
 
         return ActionResultType.SUCCESS;
@@ -399,13 +482,20 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
      * Handles what happens a neighboring block changes.
      *
      * Will make sure the block checks for any Enhancer
-     * blocks and update its state accordingly.
+     * blocks and update its state accordingly, that
+     * the plant above recomputes its growth modifier,
+     * and that the plant above looks for a new auto-harvest
+     * inventory if the block below changed.
      */
     @Override
     public void neighborChanged(BlockState state, World worldIn, BlockPos pos, Block blockIn,
                                 BlockPos fromPos, boolean isMoving) {
         super.neighborChanged(state, worldIn, pos, blockIn, fromPos, isMoving);
-        updateState(getTileEntity(worldIn, pos).getMineralPercentage(), worldIn, state, pos);
+        updateState(STORAGE.getMineralContent(worldIn, pos), worldIn, state, pos);
+        GrowthModifierCache.invalidate(worldIn, pos.up());
+
+        if(fromPos.getY() < pos.getY())
+            AutoHarvestSink.invalidate(worldIn, pos.up());
     }
 
     /**
@@ -465,7 +555,7 @@ public class BlockMineralSoil extends ResynthTileEntity<TileEntityMineralSoil>
         information.put("soil_info_header", new Object[]{ TextFormatting.GRAY, TextFormatting.BLUE, TextFormatting.GRAY });
 
         // Common data
-        float mineralConcentration = getTileEntity(world, pos).getMineralPercentage();
+        float mineralConcentration = STORAGE.getMineralContent(world, pos);
         float enhancedConcentration = getMineralContentIncrease(world, pos);
         float finalConcentration = mineralConcentration + ((mineralConcentration >= 50.0) ? enhancedConcentration : 0);
 
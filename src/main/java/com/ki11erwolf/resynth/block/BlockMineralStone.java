@@ -52,8 +52,8 @@ public class BlockMineralStone extends BlockOre{
         MinecraftUtil.spawnItemStackInWorld(
                 new ItemStack(
                         ResynthItems.ITEM_MINERAL_ROCK, CONFIG.getBaseDrops() +
-                        (MathUtil.Probability.newPercentageProbability(CONFIG.getExtraDropsChance())
-                                .randomResult().isTrue() ? CONFIG.getExtraDrops() : 0)
+                        (MathUtil.rollPercent(worldIn.rand, CONFIG.getExtraDropsChance())
+                                ? CONFIG.getExtraDrops() : 0)
                 ),
                 worldIn, pos
         );
@@ -47,6 +47,11 @@ import static com.ki11erwolf.resynth.util.Tooltip.*;
  */
 public class ResynthBlock<T extends ResynthBlock<?>> extends Block {
 
+    /**
+     * Reference to the general config settings.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
     /**
      * Flag to prevent queuing a block
      * more than once.
@@ -180,7 +185,7 @@ public class ResynthBlock<T extends ResynthBlock<?>> extends Block {
 
         return toTextComponent(WordUtils.wrap(
                 TextFormatting.DARK_GRAY + I18n.format("tooltip.block.resynth." + item, params),
-                ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getTooltipCharacterLimit(),
+                GENERAL_CONFIG.getTooltipCharacterLimit(),
                 "\n", true
         ));
     }
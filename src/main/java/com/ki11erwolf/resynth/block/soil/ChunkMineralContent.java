@@ -0,0 +1,468 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block.soil;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.Short2ShortMap;
+import it.unimi.dsi.fastutil.shorts.Short2ShortOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import com.ki11erwolf.resynth.packet.Packet;
+import com.ki11erwolf.resynth.packet.SyncMineralContentPacket;
+import com.ki11erwolf.resynth.util.MinecraftUtil;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.nbt.IntArrayNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.util.Direction;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.concurrent.TickDelayedTask;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.network.PacketDistributor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Chunk capability holding the Mineral Content of every Mineral Soil
+ * block in the chunk, for use by the {@link SoilStorageBackend#CHUNK chunk}
+ * storage backend.
+ *
+ * <p/>Positions are packed into a {@code short} (see
+ * {@link MinecraftUtil#packChunkRelative(BlockPos)}), and Mineral Content is stored
+ * as a {@code short} in 0.1% steps - so each block costs a single map
+ * entry, and a single {@code int} in the chunks NBT.
+ *
+ * <p/>The capability is attached on both sides. The server sends the
+ * contents of a chunk to clients when they start tracking it, and the
+ * entries that changed at the end of every tick they change in, so client
+ * side reads (e.g. when using Mineral Rocks) see the same Mineral Content
+ * as the server.
+ */
+public class ChunkMineralContent {
+
+    /**
+     * The capability instance, injected by Forge.
+     */
+    @CapabilityInject(ChunkMineralContent.class)
+    static Capability<ChunkMineralContent> CAPABILITY = null;
+
+    /**
+     * The name the capability is attached to chunks under.
+     */
+    private static final ResourceLocation ID = new ResourceLocation(ResynthMod.MODID, "mineral_content");
+
+    /**
+     * The ID Mineral Soil tile entities are saved under.
+     */
+    private static final String TILE_ENTITY_ID = ResynthMod.MODID + ":" + TileEntityMineralSoil.TE_ID;
+
+    /**
+     * Value returned by the map for positions without an entry.
+     */
+    private static final short ABSENT = -1;
+
+    /**
+     * Mineral Content steps per percent.
+     */
+    private static final float UNITS_PER_PERCENT = 10.0F;
+
+    /**
+     * Packed position to Mineral Content (in 0.1% steps).
+     */
+    private final Short2ShortOpenHashMap contents = new Short2ShortOpenHashMap();
+
+    /**
+     * Server side chunks with changes not yet sent to clients.
+     * Only ever accessed from the server thread.
+     */
+    private static final ReferenceOpenHashSet<Chunk> CHANGED_CHUNKS = new ReferenceOpenHashSet<>();
+
+    /**
+     * The packed positions changed since changes were last sent to clients.
+     */
+    private final ShortOpenHashSet changed = new ShortOpenHashSet();
+
+    /**
+     * Creates a new, empty, instance.
+     */
+    ChunkMineralContent(){
+        contents.defaultReturnValue(ABSENT);
+    }
+
+    /**
+     * Registers the capability with Forge. Must be called
+     * during common setup.
+     */
+    public static void register(){
+        CapabilityManager.INSTANCE.register(ChunkMineralContent.class, new Capability.IStorage<ChunkMineralContent>() {
+            @Override
+            public INBT writeNBT(Capability<ChunkMineralContent> capability, ChunkMineralContent instance, Direction side) {
+                return instance.write();
+            }
+
+            @Override
+            public void readNBT(Capability<ChunkMineralContent> capability, ChunkMineralContent instance,
+                                Direction side, INBT nbt) {
+                if(nbt instanceof IntArrayNBT)
+                    instance.read((IntArrayNBT) nbt);
+            }
+        }, ChunkMineralContent::new);
+    }
+
+    /**
+     * @param chunk the chunk.
+     * @return the Mineral Content capability of the given
+     * chunk, or {@code null} if it has none.
+     */
+    @Nullable
+    static ChunkMineralContent of(Chunk chunk){
+        return chunk.getCapability(CAPABILITY).orElse(null);
+    }
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * @param pos the position of the Mineral Soil block.
+     * @return {@code true} if Mineral Content is
+     * stored for the given position.
+     */
+    boolean has(BlockPos pos){
+        return contents.containsKey(pack(pos));
+    }
+
+    /**
+     * @param pos the position of the Mineral Soil block.
+     * @param absent the value to return if no Mineral Content
+     *               is stored for the given position.
+     * @return the Mineral Content stored for the given position.
+     */
+    float get(BlockPos pos, float absent){
+        short units = contents.get(pack(pos));
+        return units == ABSENT ? absent : units / UNITS_PER_PERCENT;
+    }
+
+    /**
+     * @param pos the position of the Mineral Soil block.
+     * @param mineralContent the Mineral Content to store.
+     */
+    void set(BlockPos pos, float mineralContent){
+        contents.put(pack(pos), (short) Math.round(mineralContent * UNITS_PER_PERCENT));
+    }
+
+    /**
+     * @param pos the position of the Mineral Soil block.
+     * @param absent the value to return if no Mineral Content
+     *               is stored for the given position.
+     * @return the Mineral Content that was stored for the
+     * given position.
+     */
+    float remove(BlockPos pos, float absent){
+        short units = contents.remove(pack(pos));
+        return units == ABSENT ? absent : units / UNITS_PER_PERCENT;
+    }
+
+    /**
+     * @param pos the block position.
+     * @return the chunk relative position packed into a {@code short}.
+     */
+    private static short pack(BlockPos pos){
+        return MinecraftUtil.packChunkRelative(pos);
+    }
+
+    // ***
+    // NBT
+    // ***
+
+    /**
+     * @return every entry, as the packed position in the high 16
+     * bits and the Mineral Content in the low 16 bits of an int.
+     */
+    private int[] toArray(){
+        int[] packed = new int[contents.size()];
+        int i = 0;
+
+        for(Short2ShortMap.Entry entry : contents.short2ShortEntrySet())
+            packed[i++] = (entry.getShortKey() & 0xFFFF) << 16 | (entry.getShortValue() & 0xFFFF);
+
+        return packed;
+    }
+
+    /**
+     * Replaces every entry with the given entries.
+     *
+     * @param packed the entries, as written by {@link #toArray()}.
+     */
+    private void fromArray(int[] packed){
+        contents.clear();
+
+        for(int entry : packed)
+            contents.put((short) (entry >>> 16), (short) entry);
+    }
+
+    /**
+     * @return every entry, as written by {@link #toArray()}.
+     */
+    private IntArrayNBT write(){
+        return new IntArrayNBT(toArray());
+    }
+
+    /**
+     * @param nbt the entries, as written by {@link #write()}.
+     */
+    private void read(IntArrayNBT nbt){
+        fromArray(nbt.getIntArray());
+    }
+
+    /**
+     * Moves the Mineral Content of every Mineral Soil tile entity
+     * saved in the given chunks NBT into the chunk. The tile entities
+     * themselves are never loaded, as Mineral Soil has none when
+     * using chunk storage, and so are not saved again.
+     *
+     * @param chunk the chunk being loaded.
+     * @param data the NBT the chunk is being loaded from.
+     */
+    private static void migrateTileEntities(Chunk chunk, CompoundNBT data){
+        ChunkMineralContent contents = of(chunk);
+        ListNBT tileEntities = data.getCompound("Level").getList("TileEntities", Constants.NBT.TAG_COMPOUND);
+        if(contents == null || tileEntities.isEmpty())
+            return;
+
+        boolean migrated = false;
+        for(int i = 0; i < tileEntities.size(); i++){
+            CompoundNBT tileEntity = tileEntities.getCompound(i);
+            if(!TILE_ENTITY_ID.equals(tileEntity.getString("id")))
+                continue;
+
+            contents.set(
+                    new BlockPos(tileEntity.getInt("x"), tileEntity.getInt("y"), tileEntity.getInt("z")),
+                    tileEntity.getFloat(TileEntityMineralSoil.MINERAL_CONTENT_TAG)
+            );
+            migrated = true;
+        }
+
+        if(migrated)
+            chunk.markDirty();
+    }
+
+    // ****
+    // Sync
+    // ****
+
+    /**
+     * Marks the Mineral Content of a block in the given server side
+     * chunk as changed, so the change is sent to every client tracking
+     * the chunk at the end of the tick - together with every other
+     * change made to the chunk in the same tick.
+     *
+     * @param chunk the chunk.
+     * @param pos the position of the changed Mineral Soil block.
+     */
+    static void markChanged(Chunk chunk, BlockPos pos){
+        ChunkMineralContent contents = of(chunk);
+        if(contents == null || chunk.getWorld().isRemote())
+            return;
+
+        contents.changed.add(pack(pos));
+        CHANGED_CHUNKS.add(chunk);
+    }
+
+    /**
+     * Sends the changed entries of every changed chunk
+     * to every client tracking the chunk.
+     */
+    private static void sendChanges(){
+        for(Chunk chunk : CHANGED_CHUNKS){
+            ChunkMineralContent contents = of(chunk);
+            if(contents == null)
+                continue;
+
+            int[] entries = new int[contents.changed.size()];
+            int i = 0;
+
+            //Removed entries are sent as ABSENT.
+            for(ShortIterator iterator = contents.changed.iterator(); iterator.hasNext();){
+                short packed = iterator.nextShort();
+                entries[i++] = (packed & 0xFFFF) << 16 | (contents.contents.get(packed) & 0xFFFF);
+            }
+
+            contents.changed.clear();
+            Packet.send(
+                    PacketDistributor.TRACKING_CHUNK.with(() -> chunk),
+                    new SyncMineralContentPacket(chunk.getPos(), entries, false)
+            );
+        }
+
+        CHANGED_CHUNKS.clear();
+    }
+
+    /**
+     * Applies Mineral Content sent by the server to the
+     * given client side chunk.
+     *
+     * @param chunk the client side chunk.
+     * @param entries the sent entries.
+     * @param replace {@code true} if the entries are every entry in
+     *                the server side chunk, and replace everything
+     *                stored; {@code false} if they are only changed
+     *                entries, where {@link #ABSENT} means removed.
+     */
+    public static void readSynced(Chunk chunk, int[] entries, boolean replace){
+        ChunkMineralContent contents = of(chunk);
+        if(contents == null)
+            return;
+
+        if(replace){
+            contents.fromArray(entries);
+            return;
+        }
+
+        for(int entry : entries){
+            if((short) entry == ABSENT)
+                contents.contents.remove((short) (entry >>> 16));
+            else contents.contents.put((short) (entry >>> 16), (short) entry);
+        }
+    }
+
+    // ********
+    // Provider
+    // ********
+
+    /**
+     * Attaches and serializes the capability for a single chunk.
+     */
+    private static class Provider implements ICapabilitySerializable<IntArrayNBT> {
+
+        /**
+         * The chunks Mineral Content.
+         */
+        private final ChunkMineralContent instance = new ChunkMineralContent();
+
+        /**
+         * The capability handed to callers.
+         */
+        private final LazyOptional<ChunkMineralContent> optional = LazyOptional.of(() -> instance);
+
+        /**
+         * {@inheritDoc}
+         */
+        @Nonnull
+        @Override
+        public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+            return CAPABILITY.orEmpty(cap, optional);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public IntArrayNBT serializeNBT() {
+            return instance.write();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void deserializeNBT(IntArrayNBT nbt) {
+            instance.read(nbt);
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    /**
+     * Attaches the capability to every chunk. Attached regardless
+     * of the storage config, so that Mineral Content stored in
+     * chunks survives switching back to tile entities. Also migrates
+     * tile entities into chunks as they are loaded, syncs chunks to
+     * clients as they start tracking them, and sends changes at the
+     * end of every server tick.
+     */
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onAttachChunkCapabilities(AttachCapabilitiesEvent<Chunk> event) {
+            if(event.getObject().getWorld() != null)
+                event.addCapability(ID, new Provider());
+        }
+
+        /*
+         * Fired after the chunks capabilities are read,
+         * but before its tile entities are loaded.
+         */
+        @SubscribeEvent
+        public static void onChunkDataLoad(ChunkDataEvent.Load event) {
+            if(!SoilStorageBackend.ACTIVE.usesTileEntities() && event.getChunk() instanceof Chunk)
+                migrateTileEntities((Chunk) event.getChunk(), event.getData());
+        }
+
+        @SubscribeEvent
+        public static void onServerTick(TickEvent.ServerTickEvent event) {
+            if(event.phase == TickEvent.Phase.END && !CHANGED_CHUNKS.isEmpty())
+                sendChanges();
+        }
+
+        /*
+         * Fired before the chunk itself is sent, so the sync is sent on
+         * the next tick - after the client has the chunk to store it in.
+         */
+        @SubscribeEvent
+        public static void onChunkWatch(ChunkWatchEvent.Watch event) {
+            if(SoilStorageBackend.ACTIVE.usesTileEntities())
+                return;
+
+            ServerWorld world = event.getWorld();
+            ServerPlayerEntity player = event.getPlayer();
+            ChunkPos pos = event.getPos();
+
+            world.getServer().enqueue(new TickDelayedTask(world.getServer().getTickCounter(), () -> {
+                Chunk chunk = world.getChunkProvider().getChunk(pos.x, pos.z, false);
+                ChunkMineralContent contents = chunk == null ? null : of(chunk);
+
+                if(contents != null && !contents.contents.isEmpty())
+                    Packet.send(
+                            PacketDistributor.PLAYER.with(() -> player),
+                            new SyncMineralContentPacket(pos, contents.toArray(), true)
+                    );
+            }));
+        }
+    }
+}
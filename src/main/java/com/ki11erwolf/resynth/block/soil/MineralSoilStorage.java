@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block.soil;
+
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Provides access to the Mineral Content of Mineral Soil blocks,
+ * regardless of where it's stored. All code reading or modifying
+ * the Mineral Content of Mineral Soil blocks should do so through
+ * the instance returned by {@link #get()}.
+ *
+ * <p/>The storage used is determined by the Mineral Soil config,
+ * see {@link SoilStorageBackend}.
+ */
+public interface MineralSoilStorage {
+
+    /**
+     * The minimum Mineral Content of a Mineral Soil block.
+     */
+    float MIN_MINERAL_CONTENT = 0.1F;
+
+    /**
+     * The maximum Mineral Content of a Mineral Soil block.
+     */
+    float MAX_MINERAL_CONTENT = 50.0F;
+
+    /**
+     * @return the storage in use, as chosen by the Mineral Soil config.
+     */
+    static MineralSoilStorage get(){
+        return SoilStorageBackend.ACTIVE;
+    }
+
+    /**
+     * Clamps the given Mineral Content to the range a Mineral
+     * Soil block can hold. Values below the minimum are
+     * treated as invalid and reset to {@code 1.0}.
+     *
+     * @param mineralContent the unclamped Mineral Content.
+     * @return the Mineral Content within range.
+     */
+    static float clamp(float mineralContent){
+        if(mineralContent < MIN_MINERAL_CONTENT)
+            return 1.0F;
+
+        return Math.min(mineralContent, MAX_MINERAL_CONTENT);
+    }
+
+    /**
+     * @return {@code true} if this storage keeps the Mineral Content
+     * in a tile entity per Mineral Soil block.
+     */
+    boolean usesTileEntities();
+
+    /**
+     * @param world the world the Mineral Soil block is in.
+     * @param pos the position of the Mineral Soil block.
+     * @return the Mineral Content of the Mineral Soil block
+     * at the given position, or {@code 0} if there is no
+     * Mineral Soil block there.
+     */
+    float getMineralContent(World world, BlockPos pos);
+
+    /**
+     * Sets the Mineral Content of the Mineral Soil block at the
+     * given position. The value is clamped, see {@link #clamp(float)}.
+     * Does nothing if there is no Mineral Soil block there.
+     *
+     * @param world the world the Mineral Soil block is in.
+     * @param pos the position of the Mineral Soil block.
+     * @param mineralContent the new Mineral Content.
+     */
+    void setMineralContent(World world, BlockPos pos, float mineralContent);
+
+    /**
+     * Increases the Mineral Content of the Mineral Soil block
+     * at the given position by the given amount.
+     *
+     * @param world the world the Mineral Soil block is in.
+     * @param pos the position of the Mineral Soil block.
+     * @param increase the amount to increase the Mineral Content by.
+     */
+    default void increaseMineralContent(World world, BlockPos pos, float increase){
+        setMineralContent(world, pos, getMineralContent(world, pos) + increase);
+    }
+
+    /**
+     * Called when a Mineral Soil block is placed in the world,
+     * to give it the starting Mineral Content.
+     *
+     * @param world the world the Mineral Soil block is in.
+     * @param pos the position of the Mineral Soil block.
+     */
+    void onSoilPlaced(World world, BlockPos pos);
+
+    /**
+     * Called when a Mineral Soil block is removed from the
+     * world, after its block state has been replaced but
+     * before any tile entity is removed. Forgets the
+     * Mineral Content stored for the position.
+     *
+     * @param world the world the Mineral Soil block was in.
+     * @param pos the position of the Mineral Soil block.
+     * @return the Mineral Content the removed block had.
+     */
+    float onSoilRemoved(World world, BlockPos pos);
+
+    /**
+     * Called when a Mineral Soil tile entity is loaded into a
+     * server world. Used to move the Mineral Content between the
+     * tile entity and the chunk when the storage config is changed.
+     *
+     * @param tileEntity the loaded tile entity.
+     */
+    void onTileEntityLoaded(TileEntityMineralSoil tileEntity);
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.block.soil;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.block.BlockMineralSoil;
+import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.MineralSoilConfig;
+import com.ki11erwolf.resynth.plant.block.GrowthModifierCache;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.concurrent.TickDelayedTask;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The places the Mineral Content of Mineral Soil blocks can be stored.
+ * Only one is ever in use, as chosen by {@link MineralSoilConfig#useChunkStorage()}.
+ */
+enum SoilStorageBackend implements MineralSoilStorage {
+
+    /**
+     * Stores the Mineral Content in a {@link TileEntityMineralSoil} per block.
+     */
+    TILE_ENTITY {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesTileEntities() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public float getMineralContent(World world, BlockPos pos) {
+            TileEntity tileEntity = world.getTileEntity(pos);
+
+            return tileEntity instanceof TileEntityMineralSoil
+                    ? ((TileEntityMineralSoil) tileEntity).getMineralPercentage() : 0;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setMineralContent(World world, BlockPos pos, float mineralContent) {
+            TileEntity tileEntity = world.getTileEntity(pos);
+
+            if(tileEntity instanceof TileEntityMineralSoil)
+                ((TileEntityMineralSoil) tileEntity).setMineralPercentage(mineralContent);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p/>Handled by the tile entity.
+         */
+        @Override
+        public void onSoilPlaced(World world, BlockPos pos) {}
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p/>The tile entity is removed by the game.
+         */
+        @Override
+        public float onSoilRemoved(World world, BlockPos pos) {
+            return getMineralContent(world, pos);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p/>Moves any Mineral Content previously stored in the
+         * chunk for the tile entities position into the tile entity.
+         */
+        @Override
+        public void onTileEntityLoaded(TileEntityMineralSoil tileEntity) {
+            World world = tileEntity.getWorld();
+            BlockPos pos = tileEntity.getPos();
+
+            runLater(world, () -> {
+                ChunkMineralContent contents = world.isBlockLoaded(pos) ? ChunkMineralContent.of(world.getChunkAt(pos)) : null;
+
+                if(contents == null || !contents.has(pos) || world.getTileEntity(pos) != tileEntity)
+                    return;
+
+                tileEntity.setMineralPercentage(contents.remove(pos, 0));
+                world.getChunkAt(pos).markDirty();
+            });
+        }
+    },
+
+    /**
+     * Stores the Mineral Content in the {@link ChunkMineralContent}
+     * capability of the chunk the block is in.
+     */
+    CHUNK {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesTileEntities() {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public float getMineralContent(World world, BlockPos pos) {
+            if(!(world.getBlockState(pos).getBlock() instanceof BlockMineralSoil))
+                return 0;
+
+            ChunkMineralContent contents = ChunkMineralContent.of(world.getChunkAt(pos));
+            float startingContent = (float) CONFIG.getStartingMineralContent();
+
+            return contents == null ? startingContent : contents.get(pos, startingContent);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setMineralContent(World world, BlockPos pos, float mineralContent) {
+            if(!(world.getBlockState(pos).getBlock() instanceof BlockMineralSoil))
+                return;
+
+            Chunk chunk = world.getChunkAt(pos);
+            ChunkMineralContent contents = ChunkMineralContent.of(chunk);
+            if(contents == null)
+                return;
+
+            contents.set(pos, MineralSoilStorage.clamp(mineralContent));
+            chunk.markDirty();
+            ChunkMineralContent.markChanged(chunk, pos);
+            GrowthModifierCache.invalidate(world, pos.up());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onSoilPlaced(World world, BlockPos pos) {
+            setMineralContent(world, pos, (float) CONFIG.getStartingMineralContent());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public float onSoilRemoved(World world, BlockPos pos) {
+            Chunk chunk = world.getChunkAt(pos);
+            ChunkMineralContent contents = ChunkMineralContent.of(chunk);
+            float startingContent = (float) CONFIG.getStartingMineralContent();
+
+            if(contents == null)
+                return startingContent;
+
+            float removed = contents.remove(pos, startingContent);
+            chunk.markDirty();
+            ChunkMineralContent.markChanged(chunk, pos);
+            return removed;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p/>Never called, as Mineral Soil has no tile entities when
+         * using chunk storage. Existing tile entities are migrated
+         * into the chunk as it loads instead, by {@link ChunkMineralContent}.
+         */
+        @Override
+        public void onTileEntityLoaded(TileEntityMineralSoil tileEntity) {}
+    };
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * Configuration settings for Mineral Soil.
+     */
+    private static final MineralSoilConfig CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(MineralSoilConfig.class);
+
+    /**
+     * The backend in use. Read once, as changing
+     * the backend requires a restart.
+     */
+    static final SoilStorageBackend ACTIVE = CONFIG.useChunkStorage() ? CHUNK : TILE_ENTITY;
+
+    static {
+        LOG.info("Using '" + ACTIVE.name().toLowerCase() + "' storage for Mineral Soil.");
+    }
+
+    /**
+     * Runs the given task on the server thread on the next tick. Used to
+     * migrate tile entities after they have finished loading, rather than
+     * while the chunk they are in is still being loaded.
+     *
+     * @param world the server world.
+     * @param task the task to run.
+     */
+    private static void runLater(World world, Runnable task){
+        if(!(world instanceof ServerWorld))
+            return;
+
+        MinecraftServer server = ((ServerWorld) world).getServer();
+        server.enqueue(new TickDelayedTask(server.getTickCounter(), task));
+    }
+}
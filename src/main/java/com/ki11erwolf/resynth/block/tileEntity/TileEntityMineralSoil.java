@@ -15,8 +15,10 @@
  */
 package com.ki11erwolf.resynth.block.tileEntity;
 
+import com.ki11erwolf.resynth.block.soil.MineralSoilStorage;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.MineralSoilConfig;
+import com.ki11erwolf.resynth.plant.block.GrowthModifierCache;
 import net.minecraft.block.BlockState;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.tileentity.TileEntity;
@@ -24,7 +26,11 @@ import net.minecraft.tileentity.TileEntity;
 /**
  * The tile entity for the block BlockMineralSoil.
  * This class acts as the container for the
- * blocks mineralPercentage value.
+ * blocks mineralPercentage value, when Mineral Soil
+ * uses tile entity storage.
+ *
+ * <p/>Should not be accessed directly, use
+ * {@link MineralSoilStorage#get()} instead.
  */
 public class TileEntityMineralSoil extends TileEntity {
 
@@ -42,7 +48,7 @@ public class TileEntityMineralSoil extends TileEntity {
     /**
      * Registry ID for this tile entity.
      */
-    static final String TE_ID = "te_mineral_soil";
+    public static final String TE_ID = "te_mineral_soil";
 
     /**
      * The given blocks mineral mineralPercentage. Range: {@code 0.1 < x < 50.0}.
@@ -84,6 +90,20 @@ public class TileEntityMineralSoil extends TileEntity {
         mineralPercentage = compound.getFloat(MINERAL_CONTENT_TAG);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p/>Lets the active {@link MineralSoilStorage} migrate
+     * the Mineral Content from chunk storage.
+     */
+    @Override
+    public void onLoad() {
+        super.onLoad();
+
+        if(world != null && !world.isRemote)
+            MineralSoilStorage.get().onTileEntityLoaded(this);
+    }
+
     // ***
     // API
     // ***
@@ -104,13 +124,11 @@ public class TileEntityMineralSoil extends TileEntity {
      */
     @SuppressWarnings("WeakerAccess")
     public void setMineralPercentage(float mineralPercentage) {
-        if(mineralPercentage < 0.1F)
-            mineralPercentage = 1.0F;
-        if(mineralPercentage > 50.0F)
-            mineralPercentage = 50.0F;
-
-        this.mineralPercentage = mineralPercentage;
+        this.mineralPercentage = MineralSoilStorage.clamp(mineralPercentage);
         markDirty();
+
+        if(world != null)
+            GrowthModifierCache.invalidate(world, pos.up());
     }
 
     /**
@@ -41,9 +41,10 @@ public class BooleanConfigValue implements ConfigValue {
 
     /**
      * The current value (set by config file) of this
-     * configuration value.
+     * configuration value. Volatile as the value may be
+     * reloaded from file while being read by the game.
      */
-    private boolean value;
+    private volatile boolean value;
 
     /**
      * Creates a new boolean config value with the given
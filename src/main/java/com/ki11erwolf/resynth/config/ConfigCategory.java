@@ -59,10 +59,15 @@ public abstract class ConfigCategory {
      * incorrect as well as the comments.
      *
      * @param config the config file.
+     * @return {@code true} if any of the values in this
+     * category changed as a result.
      */
-    void initValues(CommentedFileConfig config){
+    boolean initValues(CommentedFileConfig config){
+        boolean changed = false;
+
         for(ConfigValue configValue : values){
             String key = getValueKey(uniqueName, configValue.getUniqueName());
+            Object previous = configValue.get();
 
             if(config.contains(key))
                 configValue.setValue(config.get(key));
@@ -72,9 +77,22 @@ public abstract class ConfigCategory {
 
             config.set(key, configValue.get());
             config.setComment(key, configValue.getComment());
+            changed |= !Objects.equals(previous, configValue.get());
         }
+
+        onValuesLoaded();
+        return changed;
     }
 
+    /**
+     * Called once all {@link ConfigValue}s within this category have been
+     * (re)initialized from file. Allows categories to precompute any values
+     * derived from their config values, rather than deriving them on every read.
+     *
+     * <p/>Does nothing by default.
+     */
+    protected void onValuesLoaded(){}
+
     /**
      * Adds the config value to the category.
      *
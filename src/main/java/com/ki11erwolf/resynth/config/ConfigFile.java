@@ -16,16 +16,32 @@
 package com.ki11erwolf.resynth.config;
 
 import com.electronwill.nightconfig.core.file.CommentedFileConfig;
+import com.electronwill.nightconfig.core.io.WritingMode;
 import com.ki11erwolf.resynth.ResynthMod;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 /**
  * Represents a TOML config file built out of config categories (or groups)
  * and config values.
+ *
+ * <p/>Categories are applied to the file in memory only. The file on disk
+ * is written in a single pass, through a temporary file that replaces the
+ * original, when {@link #flush()} is called - rather than once per value set.
+ *
+ * <p/>The file can also be re-read while the game is running, see
+ * {@link #reload(Executor)} and {@link ConfigWatcher}.
  */
 public class ConfigFile {
 
@@ -35,15 +51,63 @@ public class ConfigFile {
     private static final Logger LOG = ResynthMod.getNewLogger();
 
     /**
-     * List of already parsed and loaded config categories.
+     * Map of already parsed and loaded config categories, by class.
+     * Concurrent, as categories may be first requested from
+     * worker threads (e.g. during world generation).
      */
-    private final Map<Class<?>, ? super ConfigCategory> loadedCategories = new HashMap<>();
+    private final Map<Class<?>, ConfigCategory> loadedCategories = new ConcurrentHashMap<>();
 
     /**
      * The toml config file.
      */
     private final CommentedFileConfig config;
 
+    /**
+     * The name of the file on disk, used for logging.
+     */
+    private final String file;
+
+    /**
+     * {@code true} when categories have been applied to the
+     * in memory config since it was last written to disk.
+     */
+    private boolean dirty;
+
+    /**
+     * The time, in nanoseconds, taken to read and parse the file.
+     */
+    private final long loadTime;
+
+    /**
+     * The total time, in nanoseconds, spent applying
+     * categories to the in memory config.
+     */
+    private long categoryTime;
+
+    /**
+     * The number of categories applied to the in memory config.
+     */
+    private int categoryCount;
+
+    /**
+     * Every category applied to this file, in the order they were
+     * applied. Used to re-apply them when the file is reloaded.
+     */
+    private final List<ConfigCategory> categories = new ArrayList<>();
+
+    /**
+     * Listeners notified with the categories that changed
+     * whenever this file is reloaded.
+     */
+    private final List<Consumer<Set<ConfigCategory>>> reloadListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The modification time of the file on disk after it was last
+     * written by {@link #flush()}. Used to ignore our own writes
+     * when watching the file for changes.
+     */
+    private FileTime lastWritten;
+
     /**
      * Constructs a new configuration file instance.
      *
@@ -51,8 +115,10 @@ public class ConfigFile {
      */
     ConfigFile(String file){
         LOG.info("Loading config file: " + file);
-        this.config = CommentedFileConfig.builder(Objects.requireNonNull(file)).autosave().build();
+        this.file = Objects.requireNonNull(file);
+        this.config = CommentedFileConfig.builder(file).build();
 
+        long start = System.nanoTime();
         try{
             config.load();
             LOG.info("File loaded without errors.");
@@ -60,46 +126,185 @@ public class ConfigFile {
             LOG.fatal("Config load failure", e);
             throw e;
         }
+        this.loadTime = System.nanoTime() - start;
 
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            LOG.info("Saving config file: " + file + "...");
-
-            config.save();
+            flush();
             config.close();
-
-            LOG.info("Config file saved!");
         }));
     }
 
+    /**
+     * Writes the in memory config to disk, if any categories were
+     * applied since it was last written. The file is written to a
+     * temporary file first, which then atomically replaces the original,
+     * so a crash mid-write cannot leave a truncated config behind.
+     *
+     * <p/>Also reports how long reading, applying and writing the
+     * file took.
+     */
+    public synchronized void flush(){
+        if(!dirty)
+            return;
+
+        LOG.info("Saving config file: " + file + "...");
+        long start = System.nanoTime();
+        Path path = config.getNioPath();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try {
+            config.configFormat().createWriter().write(config, temp, WritingMode.REPLACE);
+
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Failed to save config file: " + file, e);
+            return;
+        }
+
+        dirty = false;
+        try {
+            lastWritten = Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            lastWritten = null;
+        }
+
+        LOG.info(String.format(
+                "Config file %s saved! Read in %.2fms, %d categories applied in %.2fms, written in %.2fms.",
+                file, loadTime / 1e6, categoryCount, categoryTime / 1e6, (System.nanoTime() - start) / 1e6
+        ));
+    }
+
+    /**
+     * Applies the given category to the in memory config, keeping
+     * track of the time taken and marking the file as needing to
+     * be written.
+     *
+     * @param category the category to apply.
+     */
+    private synchronized void apply(ConfigCategory category){
+        long start = System.nanoTime();
+        category.initValues(config);
+
+        categoryTime += System.nanoTime() - start;
+        categoryCount++;
+        categories.add(category);
+        dirty = true;
+    }
+
+    /**
+     * Re-reads the file from disk on the calling thread, then has the
+     * given executor re-apply every category registered to it and notify
+     * the reload listeners of the categories whose values changed. Does
+     * nothing if the file is unchanged since it was last written by
+     * {@link #flush()}.
+     *
+     * <p/>Intended to be called off the main thread, with an executor
+     * that runs on the server thread between ticks - so the slow file
+     * read never stalls the server, and game logic never sees the values
+     * of a partly applied reload.
+     *
+     * @param applier runs the task applying the re-read values.
+     */
+    void reload(Executor applier){
+        synchronized (this){
+            Path path = config.getNioPath();
+
+            try {
+                if(lastWritten != null && lastWritten.equals(Files.getLastModifiedTime(path)))
+                    return;
+
+                config.load();
+            } catch (Exception e){//We want a broad catch.
+                LOG.error("Failed to reload config file: " + file + ". Keeping current values.", e);
+                return;
+            }
+        }
+
+        applier.execute(this::applyReloaded);
+    }
+
+    /**
+     * Re-applies every category registered to this file from the
+     * re-read file, then notifies the reload listeners of the
+     * categories whose values changed.
+     */
+    private void applyReloaded(){
+        Set<ConfigCategory> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        synchronized (this){
+            for(ConfigCategory category : categories)
+                if(category.initValues(config))
+                    changed.add(category);
+        }
+
+        LOG.info("Reloaded config file: " + file + ". " + changed.size() + " categories changed.");
+        if(changed.isEmpty())
+            return;
+
+        Set<ConfigCategory> view = Collections.unmodifiableSet(changed);
+        for(Consumer<Set<ConfigCategory>> listener : reloadListeners)
+            listener.accept(view);
+    }
+
+    /**
+     * Registers a listener that is notified whenever this file is
+     * reloaded from disk and at least one category changed. Listeners
+     * are called on the thread the reloaded values are applied on - the
+     * server thread when reloaded by the {@link ConfigWatcher}.
+     *
+     * @param listener the listener, given the set of changed categories.
+     */
+    public void addReloadListener(Consumer<Set<ConfigCategory>> listener){
+        reloadListeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * @return the path to the file on disk.
+     */
+    Path getPath(){
+        return config.getNioPath();
+    }
+
     /**
      * Reads a config category from file by its class. Used to
      * obtain references to config categories with only one instance
      * (e.g. GeneralConfig). Only one config category can be registered by class.
      *
+     * <p/>Safe to call from any thread; each category is only ever constructed
+     * once. Callers should hold on to the returned category (e.g. in a static
+     * final field) rather than looking it up on every use.
+     *
      * @param catClass the config category class.
      * @param <T> the config category class type.
      * @return the constructed and loaded config category.
      */
     public <T extends ConfigCategory> T getCategory(Class<T> catClass){
-        //Already loaded.
-        if(loadedCategories.containsKey(catClass))
-            //noinspection unchecked //Should not happen.
-            return (T)loadedCategories.get(catClass);
+        //Read from file once, then cache.
+        return catClass.cast(loadedCategories.computeIfAbsent(catClass, this::newCategory));
+    }
 
-        //Read from file.
-        T category;
+    /**
+     * Constructs a new instance of the given config category
+     * class and loads its values from file.
+     *
+     * @param catClass the config category class.
+     * @return the constructed and loaded config category.
+     */
+    private ConfigCategory newCategory(Class<?> catClass){
+        ConfigCategory category;
 
         try {
-            category = catClass.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
+            category = (ConfigCategory) catClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
             LOG.error("Failed to instantiate config category class", e);
             throw new IllegalArgumentException("Category class not instantiatable");
         }
 
-        category.initValues(config);
-
-        //Cache
-        loadedCategories.put(catClass, category);
+        apply(category);
         return category;
     }
 
@@ -117,7 +322,7 @@ public class ConfigFile {
      * values loaded from file.
      */
     public <T extends ConfigCategory> T loadCategory(T category){
-        Objects.requireNonNull(category).initValues(config);
+        apply(Objects.requireNonNull(category));
         return category;
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.config;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.concurrent.TickDelayedTask;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.event.server.FMLServerStartedEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppingEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches the Resynth config folder for changes while a server is
+ * running, and re-reads any changed config file on its own daemon
+ * thread. The re-read values are applied on the server thread, between
+ * ticks. See {@link ConfigFile#reload(Executor)}.
+ */
+public final class ConfigWatcher implements Runnable {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The time, in milliseconds, to wait for further changes before
+     * reloading. Editors often write a file in several steps.
+     */
+    private static final long SETTLE_TIME = 500;
+
+    /**
+     * The currently running watcher, if any.
+     */
+    private static ConfigWatcher running;
+
+    /**
+     * The watch service the config folder is registered to.
+     */
+    private final WatchService watchService;
+
+    /**
+     * The thread the watcher runs on.
+     */
+    private final Thread thread;
+
+    /**
+     * Runs tasks on the server thread, at the start of the next tick.
+     */
+    private final Executor serverThread;
+
+    /**
+     * @param watchService the watch service the config
+     *                     folder is registered to.
+     * @param server the running server.
+     */
+    private ConfigWatcher(WatchService watchService, MinecraftServer server){
+        this.watchService = watchService;
+        this.serverThread = task -> server.enqueue(new TickDelayedTask(server.getTickCounter(), task));
+        this.thread = new Thread(this, "Resynth Config Watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the config folder, if not already watching.
+     *
+     * @param server the running server, which reloaded values are applied on.
+     */
+    static synchronized void start(MinecraftServer server){
+        if(running != null)
+            return;
+
+        Path folder = ResynthConfig.getConfigFolder();
+        try {
+            WatchService watchService = folder.getFileSystem().newWatchService();
+            folder.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            running = new ConfigWatcher(watchService, server);
+        } catch (IOException e) {
+            LOG.error("Failed to watch the config folder for changes. Config files will not be reloaded.", e);
+            return;
+        }
+
+        running.thread.start();
+        LOG.info("Watching the config folder for changes...");
+    }
+
+    /**
+     * Stops watching the config folder, if watching.
+     */
+    static synchronized void stop(){
+        if(running == null)
+            return;
+
+        try {
+            running.watchService.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close config folder watch service.", e);
+        }
+
+        running.thread.interrupt();
+        running = null;
+    }
+
+    /**
+     * Waits for changes to the config folder, collects the changed
+     * files once they settle, and reloads the matching config files.
+     */
+    @Override
+    public void run(){
+        try {
+            //noinspection InfiniteLoopStatement //Exits when the watch service is closed.
+            while(true){
+                Set<Path> changed = new HashSet<>();
+                WatchKey key = watchService.take();
+
+                do {
+                    for(WatchEvent<?> event : key.pollEvents())
+                        if(event.kind() != OVERFLOW)
+                            changed.add((Path) event.context());
+                    key.reset();
+                } while((key = watchService.poll(SETTLE_TIME, TimeUnit.MILLISECONDS)) != null);
+
+                for(ConfigFile file : ResynthConfig.getConfigFiles())
+                    if(changed.contains(file.getPath().getFileName()))
+                        file.reload(serverThread);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            LOG.info("Stopped watching the config folder.");
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    /**
+     * Starts and stops the watcher along with the server.
+     */
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Cached general config instance.
+         */
+        private static final GeneralConfig CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+        @SubscribeEvent
+        public static void onServerStarted(FMLServerStartedEvent event){
+            if(CONFIG.isConfigHotReloadEnabled())
+                start(event.getServer());
+        }
+
+        @SubscribeEvent
+        public static void onServerStopping(FMLServerStoppingEvent event){
+            stop();
+        }
+    }
+}
@@ -51,8 +51,10 @@ public class IntegerConfigValue implements ConfigValue {
 
     /**
      * The actual value stored (within the range of min & max).
+     * Volatile as the value may be reloaded from file while
+     * being read by the game.
      */
-    private int value;
+    private volatile int value;
 
     /**
      * Creates a new integer config value with the given
@@ -129,21 +131,20 @@ public class IntegerConfigValue implements ConfigValue {
      */
     @Override
     public void setValue(Object value) {
+        int newValue;
+
         try{
-            this.value = Integer.parseInt(String.valueOf(value));
+            newValue = Integer.parseInt(String.valueOf(value));
         } catch (NumberFormatException e){
-            this.value = defaultValue;
+            newValue = defaultValue;
         }
 
         //No min/max.
-        if(this.max == 0 && this.min == 0)
-            return;
-
-        if(this.value > max)
-            this.value = max;
+        if(this.max != 0 || this.min != 0)
+            newValue = Math.max(min, Math.min(newValue, max));
 
-        if(this.value < min)
-            this.value = min;
+        //Single write, so readers never see an unclamped value.
+        this.value = newValue;
     }
 
     /**
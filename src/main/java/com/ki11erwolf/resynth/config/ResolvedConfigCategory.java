@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.config;
+
+/**
+ * A config category that resolves its config values into an
+ * immutable snapshot of type {@code P} whenever it is (re)loaded.
+ * Used by the plant set properties config categories, whose getters
+ * are called on every growth roll and should only read plain fields
+ * rather than re-parse config values.
+ *
+ * @param <P> the type of the resolved snapshot.
+ */
+public abstract class ResolvedConfigCategory<P> extends ConfigCategory {
+
+    /**
+     * The snapshot resolved from the config values
+     * when this category was last (re)loaded.
+     */
+    private volatile P resolved;
+
+    /**
+     * Creates a new, unique configuration category
+     * grouping.
+     *
+     * @param uniqueName The unique name (not enforced) of this
+     * category/group. All spaces are replaced with hyphens (-).
+     */
+    public ResolvedConfigCategory(String uniqueName) {
+        super(uniqueName);
+    }
+
+    /**
+     * Resolves the loaded config values into a new snapshot.
+     */
+    @Override
+    protected void onValuesLoaded() {
+        this.resolved = snapshot();
+    }
+
+    /**
+     * @return a new immutable snapshot of the current config values,
+     * with any use-configuration toggles applied.
+     */
+    protected abstract P snapshot();
+
+    /**
+     * @return the resolved snapshot, or a freshly resolved
+     * one if this category has not yet been loaded.
+     */
+    protected P resolved() {
+        P snapshot = this.resolved;
+        return snapshot != null ? snapshot : snapshot();
+    }
+
+    /**
+     * @param useConfigValue the toggle that enables the config value.
+     * @param value the config value.
+     * @return the config value if the toggle is enabled,
+     * otherwise its default value.
+     */
+    protected static float resolve(BooleanConfigValue useConfigValue, DoubleConfigValue value) {
+        if(!useConfigValue.getValue())
+            return Float.parseFloat(value.getDefaultValue().toString());
+        return (float) value.getValue();
+    }
+}
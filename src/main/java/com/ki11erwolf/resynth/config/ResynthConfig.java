@@ -16,6 +16,8 @@
 package com.ki11erwolf.resynth.config;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * Holds references to the various configuration
@@ -70,6 +72,32 @@ public class ResynthConfig {
      */
     private ResynthConfig(){}
 
+    /**
+     * Writes every config file with pending changes to disk.
+     * Called once loading completes, so that all the categories
+     * registered during startup are written in a single pass
+     * per file. Files are also flushed on shutdown.
+     */
+    public static void flushAll(){
+        GENERAL_CONFIG.flush();
+        VANILLA_PLANTS_CONFIG.flush();
+        MODDED_PLANTS_CONFIG.flush();
+    }
+
+    /**
+     * @return the folder the config files are kept in.
+     */
+    static Path getConfigFolder(){
+        return Paths.get(CONFIG_FOLDER);
+    }
+
+    /**
+     * @return every config file used by Resynth.
+     */
+    static ConfigFile[] getConfigFiles(){
+        return new ConfigFile[]{GENERAL_CONFIG, VANILLA_PLANTS_CONFIG, MODDED_PLANTS_CONFIG};
+    }
+
     /**
      * Turns a config name into an actual file name including
      * the path.
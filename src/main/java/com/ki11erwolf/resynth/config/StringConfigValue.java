@@ -41,9 +41,10 @@ public class StringConfigValue implements ConfigValue {
 
     /**
      * The current value (set by config file) of this
-     * configuration value.
+     * configuration value. Volatile as the value may be
+     * reloaded from file while being read by the game.
      */
-    private String value;
+    private volatile String value;
 
     /**
      * Creates a new string config value with the given
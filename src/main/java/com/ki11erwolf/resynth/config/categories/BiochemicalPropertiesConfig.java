@@ -16,9 +16,9 @@
 package com.ki11erwolf.resynth.config.categories;
 
 import com.ki11erwolf.resynth.config.BooleanConfigValue;
-import com.ki11erwolf.resynth.config.ConfigCategory;
 import com.ki11erwolf.resynth.config.DoubleConfigValue;
 import com.ki11erwolf.resynth.config.IntegerConfigValue;
+import com.ki11erwolf.resynth.config.ResolvedConfigCategory;
 import com.ki11erwolf.resynth.plant.set.properties.BiochemicalProperties;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractBiochemicalProperties;
 
@@ -38,7 +38,7 @@ import java.util.Objects;
  * {@link BiochemicalProperties} instance, rather than
  * defined in the class.
  */
-public class BiochemicalPropertiesConfig extends ConfigCategory implements AbstractBiochemicalProperties {
+public class BiochemicalPropertiesConfig extends ResolvedConfigCategory<AbstractBiochemicalProperties> implements AbstractBiochemicalProperties {
 
     /**
      * The prefix to the name of the config setting group.
@@ -165,12 +165,27 @@ public class BiochemicalPropertiesConfig extends ConfigCategory implements Abstr
         );
     }
 
+    /**
+     * @return a new immutable snapshot of the current config values,
+     * with the use-configuration toggles applied.
+     */
+    @Override
+    protected AbstractBiochemicalProperties snapshot() {
+        return new BiochemicalProperties(
+                canUseBonemeal.getValue(),
+                resolve(useConfigGrowthChanceValue, chanceToGrow),
+                numberOfProduceDrops.getValue(),
+                resolve(useConfigSeedChanceValues, seedSpawnChanceFromMob),
+                resolve(useConfigSeedChanceValues, seedSpawnChanceFromBulb)
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int plantYield() {
-        return numberOfProduceDrops.getValue();
+        return resolved().plantYield();
     }
 
     /**
@@ -178,9 +193,7 @@ public class BiochemicalPropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public float seedSpawnChanceFromMob() {
-        if(!this.useConfigSeedChanceValues.getValue())
-            return Float.parseFloat(seedSpawnChanceFromMob.getDefaultValue().toString());
-        return (float) seedSpawnChanceFromMob.getValue();
+        return resolved().seedSpawnChanceFromMob();
     }
 
     /**
@@ -188,9 +201,7 @@ public class BiochemicalPropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public float seedSpawnChanceFromBulb() {
-        if(!this.useConfigSeedChanceValues.getValue())
-            return Float.parseFloat(seedSpawnChanceFromBulb.getDefaultValue().toString());
-        return (float) seedSpawnChanceFromBulb.getValue();
+        return resolved().seedSpawnChanceFromBulb();
     }
 
     /**
@@ -198,7 +209,7 @@ public class BiochemicalPropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public boolean bonemealGrowth() {
-        return canUseBonemeal.getValue();
+        return resolved().bonemealGrowth();
     }
 
     /**
@@ -206,8 +217,6 @@ public class BiochemicalPropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public float growthProbability() {
-        if(!this.useConfigGrowthChanceValue.getValue())
-            return Float.parseFloat(chanceToGrow.getDefaultValue().toString());
-        return (float) this.chanceToGrow.getValue();
+        return resolved().growthProbability();
     }
 }
@@ -16,9 +16,9 @@
 package com.ki11erwolf.resynth.config.categories;
 
 import com.ki11erwolf.resynth.config.BooleanConfigValue;
-import com.ki11erwolf.resynth.config.ConfigCategory;
 import com.ki11erwolf.resynth.config.DoubleConfigValue;
 import com.ki11erwolf.resynth.config.IntegerConfigValue;
+import com.ki11erwolf.resynth.config.ResolvedConfigCategory;
 import com.ki11erwolf.resynth.plant.set.properties.CrystallineProperties;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractCrystallineProperties;
 
@@ -37,7 +37,7 @@ import com.ki11erwolf.resynth.plant.set.properties.AbstractCrystallineProperties
  * defined in the class.
  */
 //A thought: toggle that enables/disables using the config categories... for future updates that change config values.
-public class CrystallinePropertiesConfig extends ConfigCategory implements AbstractCrystallineProperties {
+public class CrystallinePropertiesConfig extends ResolvedConfigCategory<AbstractCrystallineProperties> implements AbstractCrystallineProperties {
 
     /**
      * The prefix to the name of the config setting group.
@@ -183,13 +183,29 @@ public class CrystallinePropertiesConfig extends ConfigCategory implements Abstr
         );
     }
 
+    /**
+     * @return a new immutable snapshot of the current config values,
+     * with the use-configuration toggles applied.
+     */
+    @Override
+    protected AbstractCrystallineProperties snapshot() {
+        return new CrystallineProperties(
+                canUseBonemeal.getValue(),
+                resolve(useConfigGrowthChanceValue, chanceToGrow),
+                numberOfProduceDrops.getValue(),
+                resolve(useConfigSeedChanceValues, seedSpawnChanceFromOre),
+                resolve(useConfigSeedChanceValues, seedSpawnChanceFromShard),
+                resourcesPerSeedsConfig.getValue()
+        );
+    }
+
     /**
      * {@inheritDoc}
      * @return the value specified by config.
      */
     @Override
     public boolean bonemealGrowth() {
-        return this.canUseBonemeal.getValue();
+        return resolved().bonemealGrowth();
     }
 
     /**
@@ -198,9 +214,7 @@ public class CrystallinePropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public float growthProbability() {
-        if(!this.useConfigGrowthChanceValue.getValue())
-            return Float.parseFloat(chanceToGrow.getDefaultValue().toString());
-        return (float) this.chanceToGrow.getValue();
+        return resolved().growthProbability();
     }
 
     /**
@@ -209,7 +223,7 @@ public class CrystallinePropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public int plantYield() {
-        return this.numberOfProduceDrops.getValue();
+        return resolved().plantYield();
     }
 
     /**
@@ -218,9 +232,7 @@ public class CrystallinePropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public float seedSpawnChanceFromOre() {
-        if(!this.useConfigSeedChanceValues.getValue())
-            return Float.parseFloat(seedSpawnChanceFromOre.getDefaultValue().toString());
-        return (float) this.seedSpawnChanceFromOre.getValue();
+        return resolved().seedSpawnChanceFromOre();
     }
 
     /**
@@ -229,9 +241,7 @@ public class CrystallinePropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public float seedSpawnChanceFromShard() {
-        if(!this.useConfigSeedChanceValues.getValue())
-            return Float.parseFloat(seedSpawnChanceFromShard.getDefaultValue().toString());
-        return (float) this.seedSpawnChanceFromShard.getValue();
+        return resolved().seedSpawnChanceFromShard();
     }
 
     /**
@@ -242,6 +252,6 @@ public class CrystallinePropertiesConfig extends ConfigCategory implements Abstr
      */
     @Override
     public int seedCraftingYield() {
-        return resourcesPerSeedsConfig.getValue();
+        return resolved().seedCraftingYield();
     }
 }
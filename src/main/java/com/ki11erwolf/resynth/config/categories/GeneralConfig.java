@@ -19,6 +19,11 @@ import com.ki11erwolf.resynth.config.BooleanConfigValue;
 import com.ki11erwolf.resynth.config.ConfigCategory;
 import com.ki11erwolf.resynth.config.DoubleConfigValue;
 import com.ki11erwolf.resynth.config.IntegerConfigValue;
+import com.ki11erwolf.resynth.config.StringConfigValue;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * General configuration settings used by Resynth.
@@ -162,6 +167,196 @@ public class GeneralConfig extends ConfigCategory {
             true, this
     );
 
+    /**
+     * The config value that enables or disables reloading config files when they are changed.
+     */
+    private final BooleanConfigValue enableConfigHotReload = new BooleanConfigValue(
+            "enable-config-hot-reload",
+            "Allows changes made to the Resynth config files while a world or server is running\n" +
+                     "to be applied without a restart. Changed plant set properties are sent to all\n" +
+                     "connected players. Only some settings, such as growth and seed chances, take\n" +
+                     "effect this way - others still require a restart.",
+            true, this
+    );
+
+    /**
+     * The config value that lists the dimensions in which plants grow on scheduled ticks.
+     */
+    private final StringConfigValue scheduledGrowthDimensions = new StringConfigValue(
+            "scheduled-growth-dimensions",
+            "A comma separated list of dimensions (e.g. 'minecraft:overworld, minecraft:the_nether') in\n" +
+                     "which Resynth plants grow using scheduled block ticks instead of random ticks. Each plant\n" +
+                     "works out when it will next grow and is only ticked then, giving the same average growth\n" +
+                     "rate while doing far less work in large farms. Use '*' for every dimension, or leave empty\n" +
+                     "to use random ticks everywhere. Takes precedence over 'enable-plant-index',\n" +
+                     "'enable-parallel-growth' and 'unattended-growth-radius' in the listed dimensions.",
+            "", this
+    );
+
+    /**
+     * The config value that enables or disables catching up on growth missed in unloaded chunks.
+     */
+    private final BooleanConfigValue enableCatchUpGrowth = new BooleanConfigValue(
+            "enable-catch-up-growth",
+            "When true, plants in chunks that were unloaded catch up on the growth they missed once their\n" +
+                     "chunk is loaded again - growing by the number of stages they would be expected to have grown\n" +
+                     "in that time, all at once. Removes the need for chunk loaders on Resynth farms. Off by default,\n" +
+                     "as it changes how existing farms behave.",
+            false, this
+    );
+
+    /**
+     * The config value that sets the maximum number of plant growth updates applied per world per tick.
+     */
+    private final IntegerConfigValue growthUpdatesPerTick = new IntegerConfigValue(
+            "growth-updates-per-tick",
+            "The maximum number of plant growth updates (including hopper auto-harvesting and Metallic produce\n" +
+                     "placement) applied in each world every tick. Growth beyond this is queued and carried over to the\n" +
+                     "next tick, in order, which prevents large farms from causing lag spikes. 0 applies all growth\n" +
+                     "immediately, without queuing.",
+            0, 0, 100000, this
+    );
+
+    /**
+     * The config value that sets the time budget for applying queued plant growth updates each tick.
+     */
+    private final IntegerConfigValue growthTickBudgetMicros = new IntegerConfigValue(
+            "growth-tick-budget-microseconds",
+            "The maximum amount of time, in microseconds, spent applying queued plant growth updates in each\n" +
+                     "world every tick. Only used when 'growth-updates-per-tick' is above 0.",
+            2000, 50, 50000, this
+    );
+
+    /**
+     * The config value that sets how often batched plant growth stage changes are sent to players.
+     */
+    private final IntegerConfigValue growthSyncInterval = new IntegerConfigValue(
+            "growth-sync-interval-ticks",
+            "How often, in ticks, plant growth stage changes are sent to players. Above 1, changes are\n" +
+                     "collected and sent together as one update per chunk section, greatly reducing the number\n" +
+                     "of block updates large farms send to players. 1 sends changes as they happen.",
+            1, 1, 1200, this
+    );
+
+    /**
+     * The config value that sets how many growth stages are shown to players as one.
+     */
+    private final IntegerConfigValue growthSyncStageStep = new IntegerConfigValue(
+            "growth-sync-stage-step",
+            "Reduces how many of a plants growth stages are sent to players. Growth stages are grouped into\n" +
+                     "groups of this size, and only changes into a new group (or to fully grown) are sent. 1 sends\n" +
+                     "every growth stage, 2 every other growth stage, and so on.",
+            1, 1, 8, this
+    );
+
+    /**
+     * The config value that enables or disables growing plants from a per chunk index.
+     */
+    private final BooleanConfigValue enablePlantIndex = new BooleanConfigValue(
+            "enable-plant-index",
+            "When true, Resynth keeps a compact index of the plants in every loaded chunk and grows them\n" +
+                     "from it each tick, only looking at the plants likely to grow, instead of relying on random\n" +
+                     "ticks. Growth rates are unchanged. Meant for very large farms. Has no effect in dimensions\n" +
+                     "listed in 'scheduled-growth-dimensions', and takes precedence over 'enable-parallel-growth'\n" +
+                     "and 'unattended-growth-radius'.",
+            false, this
+    );
+
+    /**
+     * The config value that enables or disables deciding plant growth in batches on multiple threads.
+     */
+    private final BooleanConfigValue enableParallelGrowth = new BooleanConfigValue(
+            "enable-parallel-growth",
+            "When true, plants skip their growth checks when randomly ticked. Instead, every\n" +
+                     "'parallel-growth-interval-seconds', the soil, enhancers, light and growth stages of the plants\n" +
+                     "in every loaded chunk are copied, the growth each plant would be expected to have had in that\n" +
+                     "time is decided on multiple threads, and the growth (including auto-harvests) is applied on the\n" +
+                     "next tick. Growth rates are unchanged. Meant for very large farms on servers with spare cores.\n" +
+                     "Has no effect in dimensions listed in 'scheduled-growth-dimensions', or when 'enable-plant-index'\n" +
+                     "is true, and takes precedence over 'unattended-growth-radius'.",
+            false, this
+    );
+
+    /**
+     * The config value that sets how often parallel growth is decided.
+     */
+    private final IntegerConfigValue parallelGrowthInterval = new IntegerConfigValue(
+            "parallel-growth-interval-seconds",
+            "How often, in seconds, the growth of plants is decided when 'enable-parallel-growth' is true.",
+            10, 1, 3600, this
+    );
+
+    /**
+     * The config value that sets the seed used for deterministic parallel growth decisions.
+     */
+    private final IntegerConfigValue parallelGrowthSeed = new IntegerConfigValue(
+            "parallel-growth-seed",
+            "When above 0, parallel growth is decided with randoms seeded from this value, the game time\n" +
+                     "and the chunk only - so the same world state always gives the same growth. Meant for\n" +
+                     "comparing results while testing. 0 uses the worlds random.",
+            0, 0, Integer.MAX_VALUE, this
+    );
+
+    /**
+     * The config value that sets the radius around players in which plants are ticked normally.
+     */
+    private final IntegerConfigValue unattendedGrowthRadius = new IntegerConfigValue(
+            "unattended-growth-radius",
+            "The distance, in blocks, from a player within which plants grow normally. Plants in loaded chunks\n" +
+                     "further than this from every player (e.g. kept loaded by chunk loaders) skip their normal growth\n" +
+                     "checks, and instead have the growth they would be expected to have had applied every\n" +
+                     "'unattended-growth-interval-seconds', giving the same yield for far less work. 0 disables this.\n" +
+                     "Has no effect in dimensions listed in 'scheduled-growth-dimensions', or when\n" +
+                     "'enable-plant-index' or 'enable-parallel-growth' is true.",
+            0, 0, 1024, this
+    );
+
+    /**
+     * The config value that sets how often unattended plants have their growth applied.
+     */
+    private final IntegerConfigValue unattendedGrowthInterval = new IntegerConfigValue(
+            "unattended-growth-interval-seconds",
+            "How often, in seconds, plants further than 'unattended-growth-radius' from every player have their\n" +
+                     "accumulated growth applied.",
+            30, 1, 3600, this
+    );
+
+    /**
+     * The config value that sets which events are fired when plants grow.
+     */
+    private final StringConfigValue cropGrowEvents = new StringConfigValue(
+            "crop-grow-events",
+            "Which events are fired when Resynth plants grow. 'forge' fires the standard Forge crop grow\n" +
+                     "events for every growth of every plant. 'none' fires no events, which is fastest. 'batched'\n" +
+                     "fires a single Resynth 'PlantsGrewEvent' per world per tick, listing every plant that grew.\n" +
+                     "Only change this if no other mods need to see Resynth plants grow.",
+            "forge", this
+    );
+
+    /**
+     * {@code true} if {@link #cropGrowEvents} is 'forge' (or not recognized),
+     * parsed whenever the config is loaded.
+     */
+    private volatile boolean forgeCropGrowEvents = true;
+
+    /**
+     * {@code true} if {@link #cropGrowEvents} is 'batched',
+     * parsed whenever the config is loaded.
+     */
+    private volatile boolean batchedCropGrowEvents = false;
+
+    /**
+     * The set of dimensions parsed from {@link #scheduledGrowthDimensions}
+     * whenever the config is loaded.
+     */
+    private volatile Set<String> scheduledGrowthDimensionSet = Collections.emptySet();
+
+    /**
+     * The light based growth multiplier for every light level (0-15), precomputed
+     * from the light config values whenever the config is loaded.
+     */
+    private volatile double[] lightGrowthMultipliers = new double[16];
+
     /**
      * Constructor.
      */
@@ -169,6 +364,54 @@ public class GeneralConfig extends ConfigCategory {
         super("general-resynth-config");
     }
 
+    /**
+     * Precomputes the light based growth multiplier table
+     * from the newly loaded light config values, and parses
+     * the list of scheduled growth dimensions and the crop
+     * grow event mode.
+     */
+    @Override
+    protected void onValuesLoaded() {
+        double[] multipliers = new double[16];
+
+        for(int lightLevel = 0; lightLevel < multipliers.length; lightLevel++)
+            multipliers[lightLevel] = computeLightGrowthMultiplier(
+                    lightLevel, getLightLevelZeroPoint(), getWorthPerLightLevel(), getInterestPerLightLevel()
+            );
+
+        lightGrowthMultipliers = multipliers;
+
+        Set<String> dimensions = new HashSet<>();
+        for(String dimension : scheduledGrowthDimensions.getValue().split(","))
+            if(!dimension.trim().isEmpty())
+                dimensions.add(dimension.trim().toLowerCase());
+
+        scheduledGrowthDimensionSet = Collections.unmodifiableSet(dimensions);
+
+        String eventMode = cropGrowEvents.getValue().trim();
+        batchedCropGrowEvents = "batched".equalsIgnoreCase(eventMode);
+        forgeCropGrowEvents = !batchedCropGrowEvents && !"none".equalsIgnoreCase(eventMode);
+    }
+
+    /**
+     * Computes the growth multiplier for a given light level. Each light level above
+     * (or below) the zero point adds (or removes) its worth, with the worth of each
+     * successive level increased by the interest - so the total is the sum of an
+     * arithmetic series.
+     *
+     * @param lightLevel the light level on the plant.
+     * @param zeroPoint the light level at which the multiplier is 1.
+     * @param worth the base worth of a single light level.
+     * @param interest the amount the worth increases by per light level.
+     * @return the growth multiplier for the given light level. Never below 0.
+     */
+    public static double computeLightGrowthMultiplier(int lightLevel, int zeroPoint, double worth, double interest) {
+        int difference = Math.abs(lightLevel - zeroPoint);
+        double change = (difference * worth) + (interest * difference * (difference + 1) / 2D);
+
+        return Math.max(lightLevel >= zeroPoint ? 1D + change : 1D - change, 0D);
+    }
+
     // ****************
     // Public Accessors
     // ****************
@@ -230,6 +473,15 @@ public class GeneralConfig extends ConfigCategory {
         return lightLevelInterest.getValue();
     }
 
+    /**
+     * @param lightLevel the light level on the plant. Clamped to 0-15.
+     * @return the precomputed growth multiplier for the given light level.
+     */
+    public double getLightGrowthMultiplier(int lightLevel) {
+        double[] multipliers = lightGrowthMultipliers;
+        return multipliers[Math.max(0, Math.min(lightLevel, multipliers.length - 1))];
+    }
+
     /**
      * @return the config defined value that specifies if crafting recipes for
      * resources are enabled or disabled.
@@ -247,4 +499,100 @@ public class GeneralConfig extends ConfigCategory {
      * seeds into resources is enabled or disabled.
      */
     public boolean enableCraftingCrystallineSeeds() { return enableCraftingCrystallineSeeds.getValue(); }
+
+    /**
+     * @return the config defined value that specifies if config files
+     * should be reloaded when changed on disk.
+     */
+    public boolean isConfigHotReloadEnabled() { return enableConfigHotReload.getValue(); }
+
+    /**
+     * @param dimension the registry name of the dimension
+     *                  (e.g. {@code minecraft:overworld}).
+     * @return {@code true} if the config specifies that plants in the
+     * given dimension grow using scheduled ticks instead of random ticks.
+     */
+    public boolean isScheduledGrowthEnabled(String dimension) {
+        Set<String> dimensions = scheduledGrowthDimensionSet;
+        return !dimensions.isEmpty() && (dimensions.contains("*") || dimensions.contains(dimension));
+    }
+
+    /**
+     * @return the config defined value that specifies if plants in
+     * reloaded chunks catch up on the growth they missed.
+     */
+    public boolean isCatchUpGrowthEnabled() { return enableCatchUpGrowth.getValue(); }
+
+    /**
+     * @return the config defined maximum number of plant growth
+     * updates applied per world per tick, or {@code 0} if growth
+     * should not be queued.
+     */
+    public int getGrowthUpdatesPerTick() { return growthUpdatesPerTick.getValue(); }
+
+    /**
+     * @return the config defined time budget, in microseconds, for
+     * applying queued plant growth updates per world per tick.
+     */
+    public int getGrowthTickBudgetMicros() { return growthTickBudgetMicros.getValue(); }
+
+    /**
+     * @return the config defined interval, in ticks, at which
+     * plant growth stage changes are sent to players.
+     */
+    public int getGrowthSyncInterval() { return growthSyncInterval.getValue(); }
+
+    /**
+     * @return the config defined number of plant growth
+     * stages that are shown to players as one.
+     */
+    public int getGrowthSyncStageStep() { return growthSyncStageStep.getValue(); }
+
+    /**
+     * @return the config defined value that specifies if plants are
+     * grown from a per chunk index instead of by random ticks.
+     */
+    public boolean isPlantIndexEnabled() { return enablePlantIndex.getValue(); }
+
+    /**
+     * @return the config defined value that specifies if plant growth
+     * is decided in batches on multiple threads instead of by random ticks.
+     */
+    public boolean isParallelGrowthEnabled() { return enableParallelGrowth.getValue(); }
+
+    /**
+     * @return the config defined interval, in seconds,
+     * at which parallel growth is decided.
+     */
+    public int getParallelGrowthInterval() { return parallelGrowthInterval.getValue(); }
+
+    /**
+     * @return the config defined seed for deterministic parallel
+     * growth decisions, or {@code 0} to use the worlds random.
+     */
+    public int getParallelGrowthSeed() { return parallelGrowthSeed.getValue(); }
+
+    /**
+     * @return the config defined radius, in blocks, around players
+     * within which plants grow normally, or {@code 0} if disabled.
+     */
+    public int getUnattendedGrowthRadius() { return unattendedGrowthRadius.getValue(); }
+
+    /**
+     * @return the config defined interval, in seconds, at which
+     * unattended plants have their accumulated growth applied.
+     */
+    public int getUnattendedGrowthInterval() { return unattendedGrowthInterval.getValue(); }
+
+    /**
+     * @return {@code true} if the config specifies that the Forge crop
+     * grow events are fired for every growth of every plant.
+     */
+    public boolean areCropGrowEventsForge() { return forgeCropGrowEvents; }
+
+    /**
+     * @return {@code true} if the config specifies that plant growth is
+     * reported with a single batched event per world per tick.
+     */
+    public boolean areCropGrowEventsBatched() { return batchedCropGrowEvents; }
 }
@@ -16,8 +16,8 @@
 package com.ki11erwolf.resynth.config.categories;
 
 import com.ki11erwolf.resynth.config.BooleanConfigValue;
-import com.ki11erwolf.resynth.config.ConfigCategory;
 import com.ki11erwolf.resynth.config.DoubleConfigValue;
+import com.ki11erwolf.resynth.config.ResolvedConfigCategory;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractMetallicProperties;
 import com.ki11erwolf.resynth.plant.set.properties.MetallicProperties;
 
@@ -35,7 +35,7 @@ import com.ki11erwolf.resynth.plant.set.properties.MetallicProperties;
  * {@link MetallicProperties} instance, rather than
  * defined in the class, in order to specify the default values.
  */
-public class MetallicPropertiesConfig extends ConfigCategory implements AbstractMetallicProperties {
+public class MetallicPropertiesConfig extends ResolvedConfigCategory<AbstractMetallicProperties> implements AbstractMetallicProperties {
 
     /**
      * The prefix to the name of the config setting group.
@@ -153,12 +153,26 @@ public class MetallicPropertiesConfig extends ConfigCategory implements Abstract
         );
     }
 
+    /**
+     * @return a new immutable snapshot of the current config values,
+     * with the use-configuration toggles applied.
+     */
+    @Override
+    protected AbstractMetallicProperties snapshot() {
+        return new MetallicProperties(
+                canUseBonemeal.getValue(),
+                resolve(useConfigGrowthChanceValue, chanceToGrow),
+                resolve(useConfigSeedChanceValues, seedSpawnChanceFromOre),
+                resolve(useConfigSeedChanceValues, seedSpawnChanceFromOrganicOre)
+        );
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean bonemealGrowth() {
-        return canUseBonemeal.getValue();
+        return resolved().bonemealGrowth();
     }
 
     /**
@@ -166,9 +180,7 @@ public class MetallicPropertiesConfig extends ConfigCategory implements Abstract
      */
     @Override
     public float growthProbability() {
-        if(!this.useConfigGrowthChanceValue.getValue())
-            return Float.parseFloat(chanceToGrow.getDefaultValue().toString());
-        return (float) chanceToGrow.getValue();
+        return resolved().growthProbability();
     }
 
     /**
@@ -176,9 +188,7 @@ public class MetallicPropertiesConfig extends ConfigCategory implements Abstract
      */
     @Override
     public float seedSpawnChanceFromOre() {
-        if(!this.useConfigSeedChanceValues.getValue())
-            return Float.parseFloat(seedSpawnChanceFromOre.getDefaultValue().toString());
-        return (float) seedSpawnChanceFromOre.getValue();
+        return resolved().seedSpawnChanceFromOre();
     }
 
     /**
@@ -186,8 +196,6 @@ public class MetallicPropertiesConfig extends ConfigCategory implements Abstract
      */
     @Override
     public float seedSpawnChanceFromOrganicOre() {
-        if(!this.useConfigSeedChanceValues.getValue())
-            return Float.parseFloat(seedSpawnChanceFromOrganicOre.getDefaultValue().toString());
-        return (float) seedSpawnChanceFromOrganicOre.getValue();
+        return resolved().seedSpawnChanceFromOrganicOre();
     }
 }
@@ -18,6 +18,7 @@ package com.ki11erwolf.resynth.config.categories;
 import com.ki11erwolf.resynth.config.BooleanConfigValue;
 import com.ki11erwolf.resynth.config.ConfigCategory;
 import com.ki11erwolf.resynth.config.DoubleConfigValue;
+import com.ki11erwolf.resynth.config.StringConfigValue;
 
 /**
  * Configuration settings for the {@link com.ki11erwolf.resynth.block.BlockMineralSoil}.
@@ -63,6 +64,21 @@ public class MineralSoilConfig extends ConfigCategory {
             this
     );
 
+    /**
+     * Config value definition for where the Mineral Content of
+     * Mineral Soil blocks is stored.
+     */
+    private final StringConfigValue storageBackend = new StringConfigValue(
+            "storage-backend",
+            "Where the Mineral Content of Mineral Soil blocks is stored. Either 'tile-entity'" +
+                      "\n(a tile entity per Mineral Soil block) or 'chunk' (packed into the chunk the" +
+                      "\nMineral Soil blocks are in). 'chunk' uses far less memory and disk space in large" +
+                      "\nfarms. Existing Mineral Soil blocks are converted as their chunks load when this" +
+                      "\nis changed. Requires a restart.",
+            "tile-entity",
+            this
+    );
+
     /**
      * Creates a new, unique configuration category
      * grouping.
@@ -96,4 +112,13 @@ public class MineralSoilConfig extends ConfigCategory {
     public double getMineralRockWorth(){
         return mineralRockWorth.getValue();
     }
+
+    /**
+     * @return {@code true} if the config specifies that the
+     * Mineral Content of Mineral Soil blocks is stored in the
+     * chunk, rather than in a tile entity per block.
+     */
+    public boolean useChunkStorage(){
+        return "chunk".equalsIgnoreCase(storageBackend.getValue().trim());
+    }
 }
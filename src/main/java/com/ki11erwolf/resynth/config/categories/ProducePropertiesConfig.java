@@ -16,10 +16,11 @@
 package com.ki11erwolf.resynth.config.categories;
 
 import com.ki11erwolf.resynth.config.BooleanConfigValue;
-import com.ki11erwolf.resynth.config.ConfigCategory;
 import com.ki11erwolf.resynth.config.DoubleConfigValue;
 import com.ki11erwolf.resynth.config.IntegerConfigValue;
+import com.ki11erwolf.resynth.config.ResolvedConfigCategory;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractProduceProperties;
+import com.ki11erwolf.resynth.plant.set.properties.ProduceProperties;
 
 import java.util.Objects;
 
@@ -29,7 +30,7 @@ import java.util.Objects;
  * instantated multiple times under different unique identifying names to create
  * a configuration instance for each plant set. Allows specifing default values.
  */
-public class ProducePropertiesConfig extends ConfigCategory implements AbstractProduceProperties {
+public class ProducePropertiesConfig extends ResolvedConfigCategory<AbstractProduceProperties> implements AbstractProduceProperties {
 
     /**
      * The prefix prepended to the unique name of this config setting group.
@@ -122,6 +123,24 @@ public class ProducePropertiesConfig extends ConfigCategory implements AbstractP
         );
     }
 
+    /**
+     * @return a new immutable snapshot of the current config values,
+     * with the use-config-values toggle applied.
+     */
+    @Override
+    protected AbstractProduceProperties snapshot() {
+        if(useConfigValues.getValue())
+            return new ProduceProperties(
+                    resourceCountConfig.getValue(), smeltingTimeConfig.getValue(), experienceWorthConfig.getValue()
+            );
+
+        return new ProduceProperties(
+                Integer.parseInt(resourceCountConfig.getDefaultValue().toString()),
+                Integer.parseInt(smeltingTimeConfig.getDefaultValue().toString()),
+                Double.parseDouble(experienceWorthConfig.getDefaultValue().toString())
+        );
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -131,9 +150,7 @@ public class ProducePropertiesConfig extends ConfigCategory implements AbstractP
      */
     @Override
     public int produceYield() {
-        if(useConfigValues.getValue())
-            return resourceCountConfig.getValue();
-        else return Integer.parseInt(resourceCountConfig.getDefaultValue().toString());
+        return resolved().produceYield();
     }
 
     /**
@@ -145,9 +162,7 @@ public class ProducePropertiesConfig extends ConfigCategory implements AbstractP
      */
     @Override
     public int timePerYield() {
-        if(useConfigValues.getValue())
-            return smeltingTimeConfig.getValue();
-        else return Integer.parseInt(smeltingTimeConfig.getDefaultValue().toString());
+        return resolved().timePerYield();
     }
 
     /**
@@ -159,8 +174,6 @@ public class ProducePropertiesConfig extends ConfigCategory implements AbstractP
      */
     @Override
     public double experiencePoints() {
-        if(useConfigValues.getValue())
-            return experienceWorthConfig.getValue();
-        else return Double.parseDouble(experienceWorthConfig.getDefaultValue().toString());
+        return resolved().experiencePoints();
     }
 }
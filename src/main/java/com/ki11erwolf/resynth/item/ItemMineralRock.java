@@ -16,7 +16,7 @@
 package com.ki11erwolf.resynth.item;
 
 import com.ki11erwolf.resynth.block.ResynthBlocks;
-import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import com.ki11erwolf.resynth.block.soil.MineralSoilStorage;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.MineralSoilConfig;
 import net.minecraft.block.BlockState;
@@ -33,6 +33,11 @@ import net.minecraft.world.World;
  */
 class ItemMineralRock extends ResynthItem<ItemMineralRock> {
 
+    /**
+     * Reference to the Mineral Soil config settings.
+     */
+    private static final MineralSoilConfig CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(MineralSoilConfig.class);
+
     /**
      * Creates the item and defines its name.
      */
@@ -69,20 +74,12 @@ class ItemMineralRock extends ResynthItem<ItemMineralRock> {
         if(!player.isCrouching() || source.getBlock() != ResynthBlocks.BLOCK_MINERAL_SOIL)
             return ActionResultType.FAIL;
 
-        TileEntityMineralSoil soilEntity;
-
-        if(!(world.getTileEntity(pos) instanceof TileEntityMineralSoil))
-            return ActionResultType.FAIL;
-
         //Do increase
-        soilEntity = (TileEntityMineralSoil) world.getTileEntity(pos);
-
-        //noinspection ConstantConditions
-        float concentration = soilEntity.getMineralPercentage();
+        MineralSoilStorage storage = MineralSoilStorage.get();
+        float concentration = storage.getMineralContent(world, pos);
         int count = context.getItem().getCount();
         int countUsed = 0;
-        float worth = (float) ResynthConfig.GENERAL_CONFIG
-                .getCategory(MineralSoilConfig.class).getMineralRockWorth();
+        float worth = (float) CONFIG.getMineralRockWorth();
 
         while(count > 0 && concentration < 50){
             concentration += worth;
@@ -91,7 +88,7 @@ class ItemMineralRock extends ResynthItem<ItemMineralRock> {
         }
 
         context.getItem().shrink(countUsed);
-        soilEntity.setMineralPercentage(concentration);
+        storage.setMineralContent(world, pos, concentration);
 
         source.neighborChanged(world, pos, source.getBlock(), pos, false);
 
@@ -46,6 +46,11 @@ import static com.ki11erwolf.resynth.util.Tooltip.toTextComponent;
  */
 public class ResynthItem<T extends ResynthItem<?>> extends Item {
 
+    /**
+     * Reference to the general config settings.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
     /**
      * Flag to prevent queuing an item
      * more than once.
@@ -196,7 +201,7 @@ public class ResynthItem<T extends ResynthItem<?>> extends Item {
         //noinspection deprecation
         return toTextComponent(WordUtils.wrap(
                 TextFormatting.DARK_GRAY + I18n.format("tooltip.item.resynth." + key, params),
-                ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getTooltipCharacterLimit(),
+                GENERAL_CONFIG.getTooltipCharacterLimit(),
                 "\n", true
         ));
     }
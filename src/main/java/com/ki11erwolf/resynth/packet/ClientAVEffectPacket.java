@@ -16,6 +16,8 @@
 
 package com.ki11erwolf.resynth.packet;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonSyntaxException;
 import com.ki11erwolf.resynth.ResynthMod;
 import com.ki11erwolf.resynth.util.EffectsUtil;
@@ -30,6 +32,9 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fml.network.NetworkEvent;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -49,11 +54,26 @@ public class ClientAVEffectPacket extends Packet<ClientAVEffectPacket>
 
     private final AVEffect audioVisualEffect;
 
-    private final BlockPos position;
+    private final BlockPos[] positions;
 
     public ClientAVEffectPacket(AVEffect audioVisualEffect, BlockPos position) {
         this.audioVisualEffect = Objects.requireNonNull(audioVisualEffect);
-        this.position = Objects.requireNonNull(position);
+        this.positions = new BlockPos[]{Objects.requireNonNull(position)};
+    }
+
+    /**
+     * Creates a packet that plays the same effect at every given
+     * position, allowing many effects to be sent as one packet.
+     *
+     * @param audioVisualEffect the effect to play.
+     * @param positions the positions to play the effect at. Must not be empty.
+     */
+    public ClientAVEffectPacket(AVEffect audioVisualEffect, Collection<BlockPos> positions) {
+        this.audioVisualEffect = Objects.requireNonNull(audioVisualEffect);
+        this.positions = Objects.requireNonNull(positions).toArray(new BlockPos[0]);
+
+        if(this.positions.length == 0)
+            throw new IllegalArgumentException("ClientAudioVisualEffectPacket requires at least one position.");
     }
 
     @Override
@@ -106,7 +126,8 @@ public class ClientAVEffectPacket extends Packet<ClientAVEffectPacket>
             }
 
             LOG.debug("Playing ClientAudioVisualEffect: " + effectPacket.audioVisualEffect.getSerialID());
-            effectPacket.audioVisualEffect.play(effectPacket.position);
+            for(BlockPos position : effectPacket.positions)
+                effectPacket.audioVisualEffect.play(position);
         });
     }
 
@@ -172,21 +193,33 @@ public class ClientAVEffectPacket extends Packet<ClientAVEffectPacket>
         @Override
         protected void objectToData(ClientAVEffectPacket object, JSerialDataIO dataIO) throws Exception {
             dataIO.add("effect-id", object.audioVisualEffect.getSerialID());
-            dataIO.add("pos-x", object.position.getX());
-            dataIO.add("pos-y", object.position.getY());
-            dataIO.add("pos-z", object.position.getZ());
+            dataIO.add("pos-x", object.positions[0].getX());
+            dataIO.add("pos-y", object.positions[0].getY());
+            dataIO.add("pos-z", object.positions[0].getZ());
+
+            if(object.positions.length > 1) {
+                JsonArray extraPositions = new JsonArray();
+                for(int i = 1; i < object.positions.length; i++)
+                    extraPositions.add(object.positions[i].toLong());
+
+                dataIO.add("extra-positions", extraPositions);
+            }
         }
 
         @Override
         protected ClientAVEffectPacket dataToObject(ClientAVEffectPacket suggestedObject, JSerialDataIO dataIO) throws Exception {
-            return new ClientAVEffectPacket(
-                    AVEffect.fromSerialID(dataIO.getString("effect-id")),
-                    new BlockPos(
-                            dataIO.getInteger("pos-x"),
-                            dataIO.getInteger("pos-y"),
-                            dataIO.getInteger("pos-z")
-                    )
-            );
+            List<BlockPos> positions = new ArrayList<>();
+            positions.add(new BlockPos(
+                    dataIO.getInteger("pos-x"),
+                    dataIO.getInteger("pos-y"),
+                    dataIO.getInteger("pos-z")
+            ));
+
+            if(dataIO.has("extra-positions"))
+                for(JsonElement extraPosition : dataIO.get("extra-positions").getAsJsonArray())
+                    positions.add(BlockPos.fromLong(extraPosition.getAsLong()));
+
+            return new ClientAVEffectPacket(AVEffect.fromSerialID(dataIO.getString("effect-id")), positions);
         }
 
         @Override
@@ -16,17 +16,20 @@
 package com.ki11erwolf.resynth.packet;
 
 import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
 import com.ki11erwolf.resynth.plant.set.properties.MetallicProperties;
 import com.ki11erwolf.resynth.plant.set.properties.ProduceProperties;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraftforge.fml.network.NetworkDirection;
 import net.minecraftforge.fml.network.NetworkEvent;
 import net.minecraftforge.fml.network.NetworkRegistry;
 import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.network.simple.SimpleChannel;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -135,15 +138,29 @@ public abstract class Packet<S extends Packet<S>> {
     private static class PacketManager{
 
         /**
-         * Communication protocol version. Value = 1.
+         * Communication protocol version. Value = 3.
+         *
+         * <p/>Version 2 sends PlantSet properties in a binary
+         * format rather than JSON. Version 3 adds syncing chunk
+         * stored Mineral Content. Neither is compatible with an
+         * earlier version - clients and servers must both be updated.
+         * The breaks are deliberate: the handshake rejects clients of
+         * another version, so a JSON fallback could never be reached.
+         * See {@link PropertiesFormatComparison} for what the binary
+         * format saves.
+         */
+        private final String protocolVersion = Integer.toString(3);
+
+        /**
+         * The name of the packet channel.
          */
-        private final String protocolVersion = Integer.toString(1);
+        private final ResourceLocation channelName = new ResourceLocation(ResynthMod.MODID, "basic-packet-channel");
 
         /**
          * Forge handler provided to register packets.
          */
         private final SimpleChannel handler
-                = NetworkRegistry.ChannelBuilder.named(new ResourceLocation(ResynthMod.MODID, "basic-packet-channel"))
+                = NetworkRegistry.ChannelBuilder.named(channelName)
                     .clientAcceptedVersions(protocolVersion::equals)
                     .serverAcceptedVersions(protocolVersion::equals)
                     .networkProtocolVersion(() -> protocolVersion)
@@ -230,5 +247,23 @@ public abstract class Packet<S extends Packet<S>> {
                 Optional.of(NetworkDirection.PLAY_TO_CLIENT)
         );
 
+        //Protocol version 2
+        MANAGER.register(
+                SetPropertiesHashesPacket.forSets(new PlantSet[0]), Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+
+        MANAGER.register(
+                new RequestSetPropertiesPacket(Collections.emptyList()), Optional.of(NetworkDirection.PLAY_TO_SERVER)
+        );
+
+        MANAGER.register(
+                SyncAllSetPropertiesPacket.forSets(Collections.emptyList()), Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+
+        //Protocol version 3
+        MANAGER.register(
+                new SyncMineralContentPacket(new ChunkPos(0, 0), new int[0], true), Optional.of(NetworkDirection.PLAY_TO_CLIENT)
+        );
+
     }
 }
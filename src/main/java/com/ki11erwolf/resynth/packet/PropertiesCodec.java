@@ -0,0 +1,279 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import com.ki11erwolf.resynth.plant.set.properties.*;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary encoding of plant set properties, used to
+ * synchronize properties with clients (protocol version 2).
+ * Replaces the JSON encoding of protocol version 1.
+ *
+ * <p/>Plant sets are referred to by their registration index
+ * (guarded by a hash of the set name), integers are written as
+ * VarInts and floating point values as their raw bits.
+ */
+final class PropertiesCodec {
+
+    /**
+     * Set type identifiers.
+     */
+    private static final byte BIOCHEMICAL = 0, CRYSTALLINE = 1, METALLIC = 2;
+
+    /**
+     * Maximum length of a plant set name sent by name.
+     */
+    private static final int MAX_NAME_LENGTH = 256;
+
+    /**
+     * Maximum size of a compressed payload once uncompressed. 1MiB.
+     */
+    private static final int MAX_UNCOMPRESSED_LENGTH = 1 << 20;
+
+    //Static class.
+    private PropertiesCodec(){}
+
+    // *********
+    // Plant Set
+    // *********
+
+    /**
+     * Writes a reference to the plant set with the given name. Uses the
+     * plant sets registration index where possible, otherwise the name.
+     *
+     * @param setName the name of the plant set.
+     * @param buffer the buffer to write to.
+     */
+    static void writeSetReference(String setName, PacketBuffer buffer){
+        int index = PlantSetAPI.getSetIndex(setName);
+        buffer.writeVarInt(index + 1);
+
+        if(index < 0)
+            buffer.writeString(setName, MAX_NAME_LENGTH);
+        else buffer.writeInt(setName.hashCode());
+    }
+
+    /**
+     * Reads a reference written with {@link #writeSetReference(String, PacketBuffer)}.
+     * Should the registration index not match the sent name hash (e.g. the client
+     * has a different set of plant sets), the plant set is looked up by name hash.
+     *
+     * @param buffer the buffer to read from.
+     * @return the name of the referenced plant set, or {@code null}
+     * if the client does not know the referenced plant set.
+     */
+    static String readSetReference(PacketBuffer buffer){
+        int index = buffer.readVarInt() - 1;
+        if(index < 0)
+            return buffer.readString(MAX_NAME_LENGTH);
+
+        int nameHash = buffer.readInt();
+        PlantSet<?, ?> set = PlantSetAPI.getSetByIndex(index);
+        if(set != null && set.getSetName().hashCode() == nameHash)
+            return set.getSetName();
+
+        for(PlantSet<?, ?> candidate : PlantSetAPI.getSetsByType(PlantSetAPI.SetType.ALL))
+            if(candidate.getSetName().hashCode() == nameHash)
+                return candidate.getSetName();
+
+        return null;
+    }
+
+    // **********
+    // Properties
+    // **********
+
+    /**
+     * Writes the given plant set properties to the buffer.
+     *
+     * @param properties the properties to write.
+     * @param buffer the buffer to write to.
+     * @throws IllegalArgumentException if the properties are of an unknown set type.
+     */
+    static void writeSetProperties(AbstractPlantSetProperties properties, PacketBuffer buffer){
+        if(properties instanceof AbstractBiochemicalProperties){
+            AbstractBiochemicalProperties biochemical = (AbstractBiochemicalProperties) properties;
+            writeCommon(BIOCHEMICAL, properties, buffer);
+            buffer.writeVarInt(biochemical.plantYield());
+            buffer.writeFloat(biochemical.seedSpawnChanceFromMob());
+            buffer.writeFloat(biochemical.seedSpawnChanceFromBulb());
+        } else if(properties instanceof AbstractCrystallineProperties){
+            AbstractCrystallineProperties crystalline = (AbstractCrystallineProperties) properties;
+            writeCommon(CRYSTALLINE, properties, buffer);
+            buffer.writeVarInt(crystalline.plantYield());
+            buffer.writeFloat(crystalline.seedSpawnChanceFromOre());
+            buffer.writeFloat(crystalline.seedSpawnChanceFromShard());
+            buffer.writeVarInt(crystalline.seedCraftingYield());
+        } else if(properties instanceof AbstractMetallicProperties){
+            AbstractMetallicProperties metallic = (AbstractMetallicProperties) properties;
+            writeCommon(METALLIC, properties, buffer);
+            buffer.writeFloat(metallic.seedSpawnChanceFromOre());
+            buffer.writeFloat(metallic.seedSpawnChanceFromOrganicOre());
+        } else throw new IllegalArgumentException("Unknown PlantSet Properties type: " + properties.getClass());
+    }
+
+    /**
+     * Reads plant set properties written with
+     * {@link #writeSetProperties(AbstractPlantSetProperties, PacketBuffer)}.
+     *
+     * @param buffer the buffer to read from.
+     * @return the read plant set properties.
+     * @throws IllegalArgumentException if the properties are of an unknown set type.
+     */
+    static AbstractPlantSetProperties readSetProperties(PacketBuffer buffer){
+        byte type = buffer.readByte();
+        boolean bonemeal = buffer.readBoolean();
+        float growth = buffer.readFloat();
+
+        switch (type){
+            case BIOCHEMICAL:
+                return new BiochemicalProperties(
+                        bonemeal, growth, buffer.readVarInt(), buffer.readFloat(), buffer.readFloat()
+                );
+            case CRYSTALLINE:
+                return new CrystallineProperties(
+                        bonemeal, growth, buffer.readVarInt(), buffer.readFloat(), buffer.readFloat(), buffer.readVarInt()
+                );
+            case METALLIC:
+                return new MetallicProperties(bonemeal, growth, buffer.readFloat(), buffer.readFloat());
+            default:
+                throw new IllegalArgumentException("Unknown PlantSet Properties type id: " + type);
+        }
+    }
+
+    /**
+     * Writes the given produce properties to the buffer.
+     *
+     * @param properties the properties to write.
+     * @param buffer the buffer to write to.
+     */
+    static void writeProduceProperties(AbstractProduceProperties properties, PacketBuffer buffer){
+        buffer.writeVarInt(properties.produceYield());
+        buffer.writeVarInt(properties.timePerYield());
+        buffer.writeDouble(properties.experiencePoints());
+    }
+
+    /**
+     * Reads produce properties written with
+     * {@link #writeProduceProperties(AbstractProduceProperties, PacketBuffer)}.
+     *
+     * @param buffer the buffer to read from.
+     * @return the read produce properties.
+     */
+    static AbstractProduceProperties readProduceProperties(PacketBuffer buffer){
+        return new ProduceProperties(buffer.readVarInt(), buffer.readVarInt(), buffer.readDouble());
+    }
+
+    /**
+     * Hashes the binary encoding of the given properties, allowing the
+     * client and server to cheaply check if their properties differ.
+     *
+     * @param setProperties the plant set properties.
+     * @param produceProperties the produce properties.
+     * @return a hash of the given properties.
+     */
+    static int hashProperties(AbstractPlantSetProperties setProperties, AbstractProduceProperties produceProperties){
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer(32));
+
+        try {
+            writeSetProperties(setProperties, buffer);
+            writeProduceProperties(produceProperties, buffer);
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+            return (int) crc.getValue();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    // ***********
+    // Compression
+    // ***********
+
+    /**
+     * Writes the contents of the given payload to the buffer, Deflate
+     * compressed and prefixed with the uncompressed length.
+     *
+     * @param payload the uncompressed bytes to write.
+     * @param buffer the buffer to write to.
+     */
+    static void writeCompressed(PacketBuffer payload, PacketBuffer buffer){
+        byte[] uncompressed = new byte[payload.readableBytes()];
+        payload.readBytes(uncompressed);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        deflater.setInput(uncompressed);
+        deflater.finish();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(uncompressed.length / 2 + 16);
+        byte[] chunk = new byte[1024];
+        while(!deflater.finished())
+            compressed.write(chunk, 0, deflater.deflate(chunk));
+        deflater.end();
+
+        buffer.writeVarInt(uncompressed.length);
+        buffer.writeByteArray(compressed.toByteArray());
+    }
+
+    /**
+     * Reads a payload written with {@link #writeCompressed(PacketBuffer, PacketBuffer)}.
+     *
+     * @param buffer the buffer to read from.
+     * @return a new buffer holding the uncompressed payload.
+     * @throws IllegalArgumentException if the payload is malformed or too large.
+     */
+    static PacketBuffer readCompressed(PacketBuffer buffer){
+        int length = buffer.readVarInt();
+        if(length < 0 || length > MAX_UNCOMPRESSED_LENGTH)
+            throw new IllegalArgumentException("Invalid compressed payload length: " + length);
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(buffer.readByteArray(MAX_UNCOMPRESSED_LENGTH));
+            byte[] uncompressed = new byte[length];
+            int read = inflater.inflate(uncompressed);
+
+            if(read != length || !inflater.finished())
+                throw new IllegalArgumentException("Compressed payload does not match its length.");
+
+            return new PacketBuffer(Unpooled.wrappedBuffer(uncompressed));
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Malformed compressed payload.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Writes the set type and the properties common to all set types.
+     */
+    private static void writeCommon(byte type, AbstractPlantSetProperties properties, PacketBuffer buffer){
+        buffer.writeByte(type);
+        buffer.writeBoolean(properties.bonemealGrowth());
+        buffer.writeFloat(properties.growthProbability());
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import com.ki11erwolf.resynth.plant.set.properties.*;
+import com.ki11erwolf.resynth.util.JSerializer;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Development help: compares the size of, and time taken to encode, the
+ * PlantSet properties sent to clients in the binary format of protocol
+ * version 2 against the JSON format of protocol version 1 it replaced.
+ *
+ * <p/>The JSON format was dropped entirely rather than kept as a fallback.
+ * Clients from before protocol version 2 are rejected by the Forge
+ * handshake, so a fallback could never be used - the protocol break is
+ * deliberate. This comparison records what the break bought.
+ */
+public final class PropertiesFormatComparison {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The number of times each format is encoded
+     * when measuring the time taken.
+     */
+    private static final int ROUNDS = 100;
+
+    //Static class.
+    private PropertiesFormatComparison(){}
+
+    /**
+     * Encodes the properties of every registered PlantSet in each
+     * format, and logs the size and average time taken of each.
+     */
+    public static void log(){
+        List<PlantSet<?, ?>> sets = Arrays.asList(PlantSetAPI.getSetsByType(PlantSetAPI.SetType.ALL));
+        int jsonBytes = 0, binaryBytes = 0, bulkBytes = 0;
+        long jsonTime = 0, binaryTime = 0, bulkTime = 0;
+
+        for(int round = 0; round < ROUNDS; round++){
+            long start = System.nanoTime();
+            jsonBytes = encodeJson(sets);
+            jsonTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            binaryBytes = encodeBinary(sets);
+            binaryTime += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            bulkBytes = encodeBulk(sets);
+            bulkTime += System.nanoTime() - start;
+        }
+
+        LOG.info("<Resynth-Development-Help> | PlantSet properties of " + sets.size() + " sets: "
+                + "JSON (protocol 1) " + jsonBytes + " bytes in " + jsonTime / ROUNDS / 1000 + "us, "
+                + "binary (protocol 2) " + binaryBytes + " bytes in " + binaryTime / ROUNDS / 1000 + "us, "
+                + "compressed bulk " + bulkBytes + " bytes in " + bulkTime / ROUNDS / 1000 + "us.");
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * @param sets the PlantSets to encode.
+     * @return the number of bytes taken by one {@link SyncSetPropertiesPacket}
+     * per set, as encoded by protocol version 2.
+     */
+    private static int encodeBinary(List<PlantSet<?, ?>> sets){
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+
+        for(PlantSet<?, ?> set : sets){
+            SyncSetPropertiesPacket packet = new SyncSetPropertiesPacket(
+                    set.getSetName(), set.getPlantSetProperties(), set.getProduceProperties()
+            );
+            packet.getEncoder().accept(packet, buffer);
+        }
+
+        return buffer.writerIndex();
+    }
+
+    /**
+     * @param sets the PlantSets to encode.
+     * @return the number of bytes taken by a single {@link SyncAllSetPropertiesPacket}.
+     */
+    private static int encodeBulk(List<PlantSet<?, ?>> sets){
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+        SyncAllSetPropertiesPacket packet = SyncAllSetPropertiesPacket.forSets(sets);
+        packet.getEncoder().accept(packet, buffer);
+
+        return buffer.writerIndex();
+    }
+
+    /**
+     * @param sets the PlantSets to encode.
+     * @return the number of bytes taken by one {@link SyncSetPropertiesPacket}
+     * per set, as encoded by protocol version 1.
+     */
+    private static int encodeJson(List<PlantSet<?, ?>> sets){
+        PacketBuffer buffer = new PacketBuffer(Unpooled.buffer());
+
+        for(PlantSet<?, ?> set : sets){
+            AbstractPlantSetProperties properties = set.getPlantSetProperties();
+
+            if(properties instanceof AbstractBiochemicalProperties){
+                writeString("biochemical", buffer);
+                writeString(JSerializer.serialize((AbstractBiochemicalProperties) properties).getDataAsJsonString(), buffer);
+            } else if(properties instanceof AbstractCrystallineProperties){
+                writeString("crystalline", buffer);
+                writeString(JSerializer.serialize((AbstractCrystallineProperties) properties).getDataAsJsonString(), buffer);
+            } else if(properties instanceof AbstractMetallicProperties){
+                writeString("metallic", buffer);
+                writeString(JSerializer.serialize((AbstractMetallicProperties) properties).getDataAsJsonString(), buffer);
+            } else continue;
+
+            writeString(JSerializer.serialize(set.getProduceProperties()).getDataAsJsonString(), buffer);
+            writeString(set.getSetName(), buffer);
+        }
+
+        return buffer.writerIndex();
+    }
+
+    /**
+     * Writes a String as protocol version 1 did: its
+     * length, followed by each character.
+     *
+     * @param string the String to write.
+     * @param buffer the buffer to write to.
+     */
+    private static void writeString(String string, PacketBuffer buffer){
+        buffer.writeInt(string.length());
+
+        for(char c : string.toCharArray())
+            buffer.writeChar(c);
+    }
+}
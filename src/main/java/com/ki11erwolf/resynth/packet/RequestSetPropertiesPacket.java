@@ -0,0 +1,110 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sent by a client in response to a {@link SetPropertiesHashesPacket},
+ * requesting the properties of every PlantSet whose properties differ
+ * between the client and server. Answered with a single
+ * {@link SyncAllSetPropertiesPacket}.
+ */
+public class RequestSetPropertiesPacket extends Packet<RequestSetPropertiesPacket> {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The names of the requested PlantSets.
+     */
+    private final List<String> setNames;
+
+    /**
+     * @param setNames the names of the PlantSets to request the properties of.
+     */
+    public RequestSetPropertiesPacket(List<String> setNames) {
+        this.setNames = Objects.requireNonNull(setNames);
+    }
+
+    @Override
+    BiConsumer<RequestSetPropertiesPacket, PacketBuffer> getEncoder() {
+        return (requestPacket, packetBuffer) -> {
+            packetBuffer.writeVarInt(requestPacket.setNames.size());
+            requestPacket.setNames.forEach(setName -> PropertiesCodec.writeSetReference(setName, packetBuffer));
+        };
+    }
+
+    @Override
+    Function<PacketBuffer, RequestSetPropertiesPacket> getDecoder() {
+        return (packetBuffer) -> {
+            List<String> setNames = new ArrayList<>();
+
+            try {
+                //Never more than every PlantSet
+                int count = Math.min(packetBuffer.readVarInt(), PlantSetAPI.getSetsByType(PlantSetAPI.SetType.ALL).length);
+
+                for(int i = 0; i < count; i++) {
+                    String setName = PropertiesCodec.readSetReference(packetBuffer);
+                    if(setName != null)
+                        setNames.add(setName);
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+                LOG.error("Failed to decode PlantSet Properties request!", exception);
+            }
+
+            return new RequestSetPropertiesPacket(setNames);
+        };
+    }
+
+    @Override
+    BiConsumer<RequestSetPropertiesPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, supplier) -> {
+            ServerPlayerEntity sender = supplier.get().getSender();
+
+            Packet.handle(supplier, () -> {
+                if(sender == null)
+                    return;
+
+                List<PlantSet<?, ?>> sets = new ArrayList<>(packet.setNames.size());
+                for(String setName : packet.setNames) {
+                    PlantSet<?, ?> set = PlantSetAPI.getSetByName(setName);
+                    if(set != null)
+                        sets.add(set);
+                }
+
+                LOG.debug("[Server] Sending the Properties of " + sets.size() + " PlantSets to a client.");
+                Packet.send(PacketDistributor.PLAYER.with(() -> sender), SyncAllSetPropertiesPacket.forSets(sets));
+            });
+        };
+    }
+}
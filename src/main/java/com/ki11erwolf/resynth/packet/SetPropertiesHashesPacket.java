@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import net.minecraftforge.fml.network.PacketDistributor;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sent by the server to a connecting client, carrying a hash of the
+ * properties of every PlantSet on the server. The client compares the
+ * hashes against its own properties, keeps its own properties for every
+ * matching PlantSet, and requests the properties of every other PlantSet
+ * with a {@link RequestSetPropertiesPacket}.
+ */
+public class SetPropertiesHashesPacket extends Packet<SetPropertiesHashesPacket> {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The properties hash of each PlantSet, by set name.
+     */
+    private final Map<String, Integer> hashes;
+
+    /**
+     * @param hashes the properties hash of each PlantSet, by set name.
+     */
+    private SetPropertiesHashesPacket(Map<String, Integer> hashes) {
+        this.hashes = Objects.requireNonNull(hashes);
+    }
+
+    /**
+     * Creates a packet holding the properties hash of each of the given PlantSets.
+     *
+     * @param sets the PlantSets (as they are on the server) to send.
+     * @return the new packet.
+     */
+    public static SetPropertiesHashesPacket forSets(PlantSet<?, ?>[] sets) {
+        Map<String, Integer> hashes = new LinkedHashMap<>(sets.length * 2);
+        for(PlantSet<?, ?> set : sets)
+            hashes.put(set.getSetName(), PropertiesCodec.hashProperties(set.getPlantSetProperties(), set.getProduceProperties()));
+
+        return new SetPropertiesHashesPacket(hashes);
+    }
+
+    @Override
+    BiConsumer<SetPropertiesHashesPacket, PacketBuffer> getEncoder() {
+        return (hashesPacket, packetBuffer) -> {
+            PacketBuffer payload = new PacketBuffer(Unpooled.buffer());
+
+            try {
+                payload.writeVarInt(hashesPacket.hashes.size());
+                hashesPacket.hashes.forEach((setName, hash) -> {
+                    PropertiesCodec.writeSetReference(setName, payload);
+                    payload.writeInt(hash);
+                });
+
+                PropertiesCodec.writeCompressed(payload, packetBuffer);
+            } finally {
+                payload.release();
+            }
+        };
+    }
+
+    @Override
+    Function<PacketBuffer, SetPropertiesHashesPacket> getDecoder() {
+        return (packetBuffer) -> {
+            Map<String, Integer> hashes = new LinkedHashMap<>();
+
+            try {
+                PacketBuffer payload = PropertiesCodec.readCompressed(packetBuffer);
+                int count = payload.readVarInt();
+
+                for(int i = 0; i < count; i++) {
+                    String setName = PropertiesCodec.readSetReference(payload);
+                    int hash = payload.readInt();
+
+                    if(setName != null)
+                        hashes.put(setName, hash);
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+                LOG.error("Failed to decode PlantSet Properties hashes!", exception);
+            }
+
+            return new SetPropertiesHashesPacket(hashes);
+        };
+    }
+
+    @Override
+    BiConsumer<SetPropertiesHashesPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, supplier) -> Packet.handle(supplier, () -> {
+            List<String> outdated = new ArrayList<>();
+
+            packet.hashes.forEach((setName, serverHash) -> {
+                PlantSet<?, ?> set = PlantSetAPI.getSetByName(setName);
+                if(set == null)
+                    return;
+
+                int clientHash = PropertiesCodec.hashProperties(set.getPlantSetProperties(), set.getProduceProperties());
+                if(clientHash == serverHash)
+                    PlantSetAPI.restorePlantSetProperties(setName);
+                else outdated.add(setName);
+            });
+
+            LOG.info("[Client] " + (packet.hashes.size() - outdated.size()) + " PlantSets match the server. "
+                    + "Requesting the Properties of " + outdated.size() + " PlantSets...");
+
+            if(!outdated.isEmpty())
+                Packet.send(PacketDistributor.SERVER.noArg(), new RequestSetPropertiesPacket(outdated));
+        });
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.plant.set.PlantSet;
+import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
+import com.ki11erwolf.resynth.plant.set.properties.AbstractPlantSetProperties;
+import com.ki11erwolf.resynth.plant.set.properties.AbstractProduceProperties;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Carries the properties of many PlantSets at once, compressed, from
+ * the server to a client. Handled as a single unit of work on the client.
+ */
+public class SyncAllSetPropertiesPacket extends Packet<SyncAllSetPropertiesPacket> {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The properties of each PlantSet.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * @param entries the properties of each PlantSet.
+     */
+    private SyncAllSetPropertiesPacket(List<Entry> entries) {
+        this.entries = Objects.requireNonNull(entries);
+    }
+
+    /**
+     * Creates a packet holding the properties of each of the given PlantSets.
+     *
+     * @param sets the PlantSets (as they are on the server) to send.
+     * @return the new packet.
+     */
+    public static SyncAllSetPropertiesPacket forSets(Collection<PlantSet<?, ?>> sets) {
+        List<Entry> entries = new ArrayList<>(sets.size());
+        for(PlantSet<?, ?> set : sets)
+            entries.add(new Entry(set.getSetName(), set.getPlantSetProperties(), set.getProduceProperties()));
+
+        return new SyncAllSetPropertiesPacket(entries);
+    }
+
+    @Override
+    BiConsumer<SyncAllSetPropertiesPacket, PacketBuffer> getEncoder() {
+        return (propertiesPacket, packetBuffer) -> {
+            PacketBuffer payload = new PacketBuffer(Unpooled.buffer());
+
+            try {
+                payload.writeVarInt(propertiesPacket.entries.size());
+                for(Entry entry : propertiesPacket.entries) {
+                    PropertiesCodec.writeSetReference(entry.setName, payload);
+                    PropertiesCodec.writeSetProperties(entry.setProperties, payload);
+                    PropertiesCodec.writeProduceProperties(entry.produceProperties, payload);
+                }
+
+                PropertiesCodec.writeCompressed(payload, packetBuffer);
+            } finally {
+                payload.release();
+            }
+        };
+    }
+
+    @Override
+    Function<PacketBuffer, SyncAllSetPropertiesPacket> getDecoder() {
+        return (packetBuffer) -> {
+            List<Entry> entries = new ArrayList<>();
+
+            try {
+                PacketBuffer payload = PropertiesCodec.readCompressed(packetBuffer);
+                int count = payload.readVarInt();
+
+                for(int i = 0; i < count; i++) {
+                    String setName = PropertiesCodec.readSetReference(payload);
+                    AbstractPlantSetProperties setProperties = PropertiesCodec.readSetProperties(payload);
+                    AbstractProduceProperties produceProperties = PropertiesCodec.readProduceProperties(payload);
+
+                    if(setName != null)
+                        entries.add(new Entry(setName, setProperties, produceProperties));
+                    else LOG.warn("Skipping the Properties of a PlantSet unknown to this client.");
+                }
+            } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+                LOG.error("Failed to decode bulk PlantSet Properties!", exception);
+            }
+
+            return new SyncAllSetPropertiesPacket(entries);
+        };
+    }
+
+    @Override
+    BiConsumer<SyncAllSetPropertiesPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (packet, supplier) -> Packet.handle(supplier, () -> {
+            for(Entry entry : packet.entries)
+                PlantSetAPI.synchronizePlantSetProperties(entry.setName, entry.setProperties, entry.produceProperties);
+        });
+    }
+
+    /**
+     * The properties of a single PlantSet.
+     */
+    private static class Entry {
+
+        private final String setName;
+
+        private final AbstractPlantSetProperties setProperties;
+
+        private final AbstractProduceProperties produceProperties;
+
+        private Entry(String setName, AbstractPlantSetProperties setProperties, AbstractProduceProperties produceProperties) {
+            this.setName = Objects.requireNonNull(setName);
+            this.setProperties = Objects.requireNonNull(setProperties);
+            this.produceProperties = Objects.requireNonNull(produceProperties);
+        }
+    }
+}
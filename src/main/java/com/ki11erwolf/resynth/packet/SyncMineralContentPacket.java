@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.block.soil.ChunkMineralContent;
+import com.ki11erwolf.resynth.util.SideUtil;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.network.NetworkEvent;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sent by the server to clients tracking a chunk, carrying the Mineral
+ * Content of Mineral Soil blocks stored in the chunk, so that client
+ * side reads of chunk stored Mineral Content match the server. Carries
+ * either every entry in the chunk, replacing everything the client had
+ * stored for it (when the client starts tracking the chunk), or only
+ * the entries that changed in the last tick.
+ */
+public class SyncMineralContentPacket extends Packet<SyncMineralContentPacket> {
+
+    /**
+     * Logger for this class.
+     */
+    private static final Logger LOG = ResynthMod.getNewLogger();
+
+    /**
+     * The position of the chunk.
+     */
+    private final ChunkPos chunkPos;
+
+    /**
+     * Every entry in the chunk, packed as in the chunks NBT.
+     */
+    private final int[] entries;
+
+    /**
+     * {@code true} if {@link #entries} is every entry in the chunk,
+     * {@code false} if it is only the changed entries.
+     */
+    private final boolean replace;
+
+    /**
+     * @param chunkPos the position of the chunk.
+     * @param entries the entries, packed as in the chunks NBT.
+     * @param replace {@code true} if the entries are every entry
+     *                in the chunk, {@code false} if they are only
+     *                the changed entries.
+     */
+    public SyncMineralContentPacket(ChunkPos chunkPos, int[] entries, boolean replace) {
+        this.chunkPos = Objects.requireNonNull(chunkPos);
+        this.entries = Objects.requireNonNull(entries);
+        this.replace = replace;
+    }
+
+    @Override
+    BiConsumer<SyncMineralContentPacket, PacketBuffer> getEncoder() {
+        return (contentPacket, packetBuffer) -> {
+            packetBuffer.writeInt(contentPacket.chunkPos.x);
+            packetBuffer.writeInt(contentPacket.chunkPos.z);
+            packetBuffer.writeBoolean(contentPacket.replace);
+            packetBuffer.writeVarInt(contentPacket.entries.length);
+
+            for(int entry : contentPacket.entries)
+                packetBuffer.writeInt(entry);
+        };
+    }
+
+    @Override
+    Function<PacketBuffer, SyncMineralContentPacket> getDecoder() {
+        return (packetBuffer) -> {
+            ChunkPos chunkPos = new ChunkPos(packetBuffer.readInt(), packetBuffer.readInt());
+            boolean replace = packetBuffer.readBoolean();
+            int[] entries = new int[packetBuffer.readVarInt()];
+
+            for(int i = 0; i < entries.length; i++)
+                entries[i] = packetBuffer.readInt();
+
+            return new SyncMineralContentPacket(chunkPos, entries, replace);
+        };
+    }
+
+    @Override
+    BiConsumer<SyncMineralContentPacket, Supplier<NetworkEvent.Context>> getHandler() {
+        return (contentPacket, supplier) -> Packet.handle(supplier, () -> {
+            if(!SideUtil.isClientTrueSafe()) {
+                LOG.error("Skipping handling of SyncMineralContentPacket - not executing on physical client.");
+                return;
+            }
+
+            ClientWorld world = Minecraft.getInstance().world;
+            if(world == null)
+                return;
+
+            //Chunk may have been unloaded since it was sent.
+            Chunk chunk = world.getChunkProvider().getChunk(contentPacket.chunkPos.x, contentPacket.chunkPos.z, false);
+            if(chunk != null)
+                ChunkMineralContent.readSynced(chunk, contentPacket.entries, contentPacket.replace);
+        });
+    }
+}
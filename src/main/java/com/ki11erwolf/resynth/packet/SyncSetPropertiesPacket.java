@@ -16,17 +16,13 @@
 
 package com.ki11erwolf.resynth.packet;
 
-import com.google.gson.JsonSyntaxException;
 import com.ki11erwolf.resynth.ResynthMod;
 import com.ki11erwolf.resynth.plant.set.PlantSetAPI;
 import com.ki11erwolf.resynth.plant.set.properties.*;
-import com.ki11erwolf.resynth.util.JSerializer;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.network.NetworkEvent;
 import org.apache.logging.log4j.Logger;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -35,13 +31,6 @@ import java.util.function.Supplier;
 //TODO: Document
 public class SyncSetPropertiesPacket extends Packet<SyncSetPropertiesPacket> {
 
-    private static final Map<String, JSerializer<? extends AbstractPlantSetProperties>> TYPENAME_TO_SERIALIZER
-            = new HashMap<String, JSerializer<? extends AbstractPlantSetProperties>>(){{
-        put("biochemical", AbstractBiochemicalProperties.SERIALIZER);
-        put("crystalline", AbstractCrystallineProperties.SERIALIZER);
-        put("metallic", AbstractMetallicProperties.SERIALIZER);
-    }};
-
     /**
      * The logger for this class.
      */
@@ -62,50 +51,28 @@ public class SyncSetPropertiesPacket extends Packet<SyncSetPropertiesPacket> {
     @Override
     BiConsumer<SyncSetPropertiesPacket, PacketBuffer> getEncoder() {
         return (propertiesPacket, packetBuffer) -> {
-            AbstractPlantSetProperties props = propertiesPacket.setProperties;
-            if (props instanceof AbstractBiochemicalProperties) {
-                writeString("biochemical", packetBuffer);
-                writeString(JSerializer.serialize((AbstractBiochemicalProperties) props).getDataAsJsonString(), packetBuffer);
-            } else if (props instanceof AbstractCrystallineProperties) {
-                writeString("crystalline", packetBuffer);
-                writeString(JSerializer.serialize((AbstractCrystallineProperties) props).getDataAsJsonString(), packetBuffer);
-            } else if (props instanceof AbstractMetallicProperties) {
-                writeString("metallic", packetBuffer);
-                writeString(JSerializer.serialize((AbstractMetallicProperties) props).getDataAsJsonString(), packetBuffer);
-            } else {
-                LOG.error("Cannot serialize and encode PlantSet Properties! Unknown set type.");
-                return;
-            }
-
-            writeString(JSerializer.serialize(propertiesPacket.produceProperties).getDataAsJsonString(), packetBuffer);
-            writeString(propertiesPacket.setName, packetBuffer);
+            PropertiesCodec.writeSetReference(propertiesPacket.setName, packetBuffer);
+            PropertiesCodec.writeSetProperties(propertiesPacket.setProperties, packetBuffer);
+            PropertiesCodec.writeProduceProperties(propertiesPacket.produceProperties, packetBuffer);
         };
     }
 
     @Override
     Function<PacketBuffer, SyncSetPropertiesPacket> getDecoder() {
         return (packetBuffer) -> {
-            String type = readString(packetBuffer);
-            JSerializer<? extends AbstractPlantSetProperties> serializer = TYPENAME_TO_SERIALIZER.get(type);
-
-            if(serializer == null) {
-                LOG.error("Cannot deserialize and decode PlantSet Properties! Unknown set typename.");
-                return null;
-            }
-
             try {
-                AbstractPlantSetProperties deserializedSetProperties = serializer.deserializeData(
-                        JSerializer.JSerialData.fromJsonString(readString(packetBuffer))
-                );
-                AbstractProduceProperties deserializedProduceProperties = AbstractProduceProperties.SERIALIZER.deserializeData(
-                        JSerializer.JSerialData.fromJsonString(readString(packetBuffer))
-                );
-
-                String deserializedSetName = readString(packetBuffer);
-
-                return new SyncSetPropertiesPacket(deserializedSetName, deserializedSetProperties, deserializedProduceProperties);
-            } catch (JSerializer.SerializeException | IllegalArgumentException | JsonSyntaxException exception) {
-                LOG.error("Failed to deserialize PlantSet Properties!", exception);
+                String setName = PropertiesCodec.readSetReference(packetBuffer);
+                AbstractPlantSetProperties setProperties = PropertiesCodec.readSetProperties(packetBuffer);
+                AbstractProduceProperties produceProperties = PropertiesCodec.readProduceProperties(packetBuffer);
+
+                if(setName == null) {
+                    LOG.error("Cannot decode PlantSet Properties! The PlantSet is unknown to this client.");
+                    return null;
+                }
+
+                return new SyncSetPropertiesPacket(setName, setProperties, produceProperties);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException exception) {
+                LOG.error("Failed to decode PlantSet Properties!", exception);
                 return null;
             }
         };
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+import net.minecraftforge.items.ItemHandlerHelper;
+
+/**
+ * The destination of produce from fully grown plants when hopper
+ * auto-farming is enabled: the first inventory 2, or else 3, blocks
+ * below the plant (i.e. below the Mineral Soil, or below the Enhancer
+ * under the Mineral Soil).
+ *
+ * <p/>Any block exposing an {@link IItemHandler} from its top face
+ * is accepted - hoppers, chests, drawers, item pipes, etc. The
+ * inventory found for each plant position is cached, and the cache
+ * is invalidated when:
+ * <ul>
+ *     <li>The inventory is removed (its capability is invalidated).</li>
+ *     <li>{@link com.ki11erwolf.resynth.block.BlockMineralSoil#neighborChanged} or
+ *     {@link com.ki11erwolf.resynth.block.BlockEnhancer#neighborChanged} - a block
+ *     below the soil changed.</li>
+ *     <li>The plant itself is removed or changed.</li>
+ *     <li>Chunk &amp; world unloading.</li>
+ * </ul>
+ * Positions without an inventory are re-checked every {@link #RETRY_TICKS}
+ * ticks, as blocks without one do not always notify the soil.
+ *
+ * <p/>Only ever accessed from the server thread - calls made with a
+ * client world are ignored.
+ */
+public final class AutoHarvestSink {
+
+    /**
+     * The number of ticks before a plant position without
+     * an inventory below it is checked again.
+     */
+    private static final long RETRY_TICKS = 200;
+
+    /**
+     * Every cached target, by world, then by chunk, then by plant position.
+     */
+    private static final PerWorld<Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Target>>> CACHE
+            = new PerWorld<Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Target>>>(Long2ObjectOpenHashMap::new)
+            .onChunkUnload((chunks, chunk) -> chunks.remove(chunk));
+
+    //Static class.
+    private AutoHarvestSink(){}
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * Attempts to insert the given produce, in full, into the
+     * inventory below the plant at the given position.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param produce the produce to insert. Not modified.
+     * @return {@code true} if, and only if, an inventory was
+     * found below the plant and the produce was inserted.
+     * {@code false} if there was no inventory or it could not
+     * hold all the produce.
+     */
+    static boolean insert(World world, BlockPos pos, ItemStack produce){
+        if(world.isRemote || produce.isEmpty())
+            return false;
+
+        IItemHandler handler = getTarget(world, pos).getHandler();
+        if(handler == null)
+            return false;
+
+        if(!ItemHandlerHelper.insertItemStacked(handler, produce, true).isEmpty())
+            return false;
+
+        ItemHandlerHelper.insertItemStacked(handler, produce, false);
+        return true;
+    }
+
+    /**
+     * Expires any cached target for the plant at the given position,
+     * forcing it to be looked up again on its next harvest. The expired
+     * target is kept until its chunk unloads, so that looking up the
+     * same inventory again does not add another invalidation listener
+     * to it.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     */
+    public static void invalidate(IWorld world, BlockPos pos){
+        if(world.isRemote())
+            return;
+
+        Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Target>> chunks = CACHE.getIfPresent(world);
+        if(chunks == null)
+            return;
+
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2ObjectOpenHashMap<Target> targets = chunks.get(chunk);
+        if(targets == null)
+            return;
+
+        Target target = targets.get(pos.toLong());
+        if(target == null)
+            return;
+
+        if(target.handler == null){
+            targets.remove(pos.toLong());
+            if(targets.isEmpty())
+                chunks.remove(chunk);
+        } else targets.put(pos.toLong(), new Target(target.handler, Long.MIN_VALUE));
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return the cached, or newly found, target of the plant.
+     */
+    private static Target getTarget(World world, BlockPos pos){
+        Long2ObjectOpenHashMap<Target> targets = CACHE.get(world).computeIfAbsent(
+                ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), c -> new Long2ObjectOpenHashMap<>());
+
+        Target target = targets.get(pos.toLong());
+        if(target == null || target.isExpired(world)){
+            target = findTarget(world, pos, target);
+            targets.put(pos.toLong(), target);
+        }
+
+        return target;
+    }
+
+    /**
+     * Looks for an inventory 2, and then 3, blocks below the plant.
+     *
+     * <p/>An invalidation listener is only added to the inventory
+     * when it is not the one the previous target already listens to,
+     * so repeated lookups of the same inventory do not pile up listeners.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param previous the previous (expired) target of the plant,
+     *                 or {@code null} if it had none.
+     * @return the first inventory found, or an empty target
+     * to be retried later.
+     */
+    private static Target findTarget(World world, BlockPos pos, Target previous){
+        BlockPos immutablePos = pos.toImmutable();
+
+        for(int depth = 2; depth <= 3; depth++){
+            TileEntity tileEntity = world.getTileEntity(pos.down(depth));
+            if(tileEntity == null)
+                continue;
+
+            LazyOptional<IItemHandler> handler = tileEntity.getCapability(
+                    CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, Direction.UP
+            );
+
+            if(handler.isPresent()){
+                if(previous == null || previous.handler != handler)
+                    handler.addListener(invalidated -> invalidate(world, immutablePos));
+
+                return new Target(handler, Long.MAX_VALUE);
+            }
+        }
+
+        return new Target(null, world.getGameTime() + RETRY_TICKS);
+    }
+
+    /**
+     * The inventory (or lack of) found below a plant.
+     */
+    private static final class Target {
+
+        /**
+         * The inventory, or {@code null} if none was found.
+         */
+        private final LazyOptional<IItemHandler> handler;
+
+        /**
+         * The game time after which the target must be looked up again.
+         */
+        private final long expiresAt;
+
+        /**
+         * @param handler the inventory, or {@code null} if none was found.
+         * @param expiresAt the game time after which the target must be
+         *                  looked up again.
+         */
+        private Target(LazyOptional<IItemHandler> handler, long expiresAt){
+            this.handler = handler;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * @param world the world the plant is in.
+         * @return {@code true} if the target must be looked up again.
+         */
+        private boolean isExpired(World world){
+            return world.getGameTime() > expiresAt || (handler != null && !handler.isPresent());
+        }
+
+        /**
+         * @return the inventory, or {@code null} if none was found.
+         */
+        private IItemHandler getHandler(){
+            return handler == null ? null : handler.orElse(null);
+        }
+    }
+}
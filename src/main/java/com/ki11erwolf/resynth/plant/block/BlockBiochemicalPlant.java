@@ -39,6 +39,27 @@ import net.minecraft.world.World;
  */
 public abstract class BlockBiochemicalPlant extends BlockPlant<BlockBiochemicalPlant> {
 
+    /**
+     * The growth stages of Biochemical plant set types, shared
+     * by every Biochemical plant.
+     */
+    private static final IntegerProperty GROWTH_STAGE = IntegerProperty.create("growth_stage", 0, 7);
+
+    /**
+     * The bounding box shapes for the various growth stages
+     * of Biochemical plant set types, shared by every Biochemical plant.
+     */
+    private static final VoxelShape[] SHAPE_BY_AGE = new VoxelShape[]{
+            Block.makeCuboidShape(7.0D, 0.0D, 7.0D, 9.0D, 2.0D, 9.0D),   //1
+            Block.makeCuboidShape(7.0D, 0.0D, 7.0D, 9.0D, 2.0D, 9.0D),   //2
+            Block.makeCuboidShape(5.0D, 0.0D, 5.0D, 11.0D, 3.0D, 11.0D), //3
+            Block.makeCuboidShape(5.0D, 0.0D, 5.0D, 11.0D, 5.0D, 11.0D), //4
+            Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 7.0D, 13.0D), //5
+            Block.makeCuboidShape(3.0D, 0.5D, 3.0D, 13.0D, 9.0D, 13.0D), //6
+            Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 11.0D, 13.0D),//7
+            Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 14.0D, 13.0D) //8
+    };
+
     public BlockBiochemicalPlant(PlantSet<BlockBiochemicalPlant, EntityType<?>> parentSet) {
         super(parentSet);
     }
@@ -52,7 +73,7 @@ public abstract class BlockBiochemicalPlant extends BlockPlant<BlockBiochemicalP
      */
     @Override
     IntegerProperty getGrowthProperty() {
-        return IntegerProperty.create("growth_stage", 0, 7);
+        return GROWTH_STAGE;
     }
 
     /**
@@ -60,16 +81,7 @@ public abstract class BlockBiochemicalPlant extends BlockPlant<BlockBiochemicalP
      */
     @Override
     VoxelShape[] getShapeByAge() {
-        return new VoxelShape[]{
-                Block.makeCuboidShape(7.0D, 0.0D, 7.0D, 9.0D, 2.0D, 9.0D),   //1
-                Block.makeCuboidShape(7.0D, 0.0D, 7.0D, 9.0D, 2.0D, 9.0D),   //2
-                Block.makeCuboidShape(5.0D, 0.0D, 5.0D, 11.0D, 3.0D, 11.0D), //3
-                Block.makeCuboidShape(5.0D, 0.0D, 5.0D, 11.0D, 5.0D, 11.0D), //4
-                Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 7.0D, 13.0D), //5
-                Block.makeCuboidShape(3.0D, 0.5D, 3.0D, 13.0D, 9.0D, 13.0D), //6
-                Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 11.0D, 13.0D),//7
-                Block.makeCuboidShape(3.0D, 0.0D, 3.0D, 13.0D, 14.0D, 13.0D) //8
-        };
+        return SHAPE_BY_AGE;
     }
 
     /**
@@ -38,6 +38,27 @@ import net.minecraft.world.World;
  */
 public abstract class BlockCrystallinePlant extends BlockPlant<BlockCrystallinePlant> {
 
+    /**
+     * The growth stages of Crystalline plant set types, shared
+     * by every Crystalline plant.
+     */
+    private static final IntegerProperty GROWTH_STAGE = IntegerProperty.create("growth_stage", 0, 7);
+
+    /**
+     * The bounding box shapes for the various growth stages
+     * of Crystalline plant set types, shared by every Crystalline plant.
+     */
+    private static final VoxelShape[] SHAPE_BY_AGE = new VoxelShape[]{
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D,10.0D, 2.0D, 10.0D), //1
+            Block.makeCuboidShape(5.0D, 0.0D, 5.0D,11.0D, 3.5D, 11.0D), //2
+            Block.makeCuboidShape(4.5D, 0.0D, 4.5D,11.5D, 5.0D, 11.5D), //3
+            Block.makeCuboidShape(2.5D, 0.0D, 2.5D,13.5D, 7.5D, 13.5),  //4
+            Block.makeCuboidShape(2.5D, 0.0D, 2.5D,13.5D, 7.5D, 13.5D), //5
+            Block.makeCuboidShape(0.5D, 0.5D, 0.5D,15.5D, 11.0D, 15.5D),//6
+            Block.makeCuboidShape(0.5D, 0.0D, 0.5D,15.5D, 14.0D, 15.5D),//7
+            Block.makeCuboidShape(0.5D, 0.0D, 0.5D,15.5D, 15.0D, 15.5D) //8
+    };
+
     public BlockCrystallinePlant(PlantSet<BlockCrystallinePlant, Block> parentSet) {
         super(parentSet);
     }
@@ -53,7 +74,7 @@ public abstract class BlockCrystallinePlant extends BlockPlant<BlockCrystallineP
      */
     @Override
     IntegerProperty getGrowthProperty() {
-        return IntegerProperty.create("growth_stage", 0, 7);
+        return GROWTH_STAGE;
     }
 
     /**
@@ -65,16 +86,7 @@ public abstract class BlockCrystallinePlant extends BlockPlant<BlockCrystallineP
      */
     @Override
     VoxelShape[] getShapeByAge() {
-        return new VoxelShape[]{
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D,10.0D, 2.0D, 10.0D), //1
-                Block.makeCuboidShape(5.0D, 0.0D, 5.0D,11.0D, 3.5D, 11.0D), //2
-                Block.makeCuboidShape(4.5D, 0.0D, 4.5D,11.5D, 5.0D, 11.5D), //3
-                Block.makeCuboidShape(2.5D, 0.0D, 2.5D,13.5D, 7.5D, 13.5),  //4
-                Block.makeCuboidShape(2.5D, 0.0D, 2.5D,13.5D, 7.5D, 13.5D), //5
-                Block.makeCuboidShape(0.5D, 0.5D, 0.5D,15.5D, 11.0D, 15.5D),//6
-                Block.makeCuboidShape(0.5D, 0.0D, 0.5D,15.5D, 14.0D, 15.5D),//7
-                Block.makeCuboidShape(0.5D, 0.0D, 0.5D,15.5D, 15.0D, 15.5D) //8
-        };
+        return SHAPE_BY_AGE;
     }
 
     /**
@@ -49,6 +49,28 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
      */
     private static final DirectionProperty FACING = HorizontalBlock.HORIZONTAL_FACING;
 
+    /**
+     * The growth stages of Metallic plant set types, shared
+     * by every Metallic plant.
+     */
+    private static final IntegerProperty GROWTH_STAGE = IntegerProperty.create("growth_stage", 0, 8);
+
+    /**
+     * The bounding box shapes for the various growth stages
+     * of Metallic plant set types, shared by every Metallic plant.
+     */
+    private static final VoxelShape[] SHAPE_BY_AGE = new VoxelShape[]{
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 2.0D, 10.0D),  //1
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 4.0D, 10.0D),  //2
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 6.0D, 10.0D),  //3
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 8.0D, 10.0D),  //4
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 10.0D, 10.0D), //5
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 12.0D, 10.0D), //6
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 14.0D, 10.0D), //7
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 16.0D, 10.0D), //8
+            Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 11.0D, 10.0D)  //9
+    };
+
     @SuppressWarnings("WeakerAccess")//Lies
     public BlockMetallicPlant(PlantSet<BlockMetallicPlant, Block> parentSet) {
         super(parentSet);
@@ -63,7 +85,7 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
      */
     @Override
     IntegerProperty getGrowthProperty() {
-        return IntegerProperty.create("growth_stage", 0, 8);
+        return GROWTH_STAGE;
     }
 
     /**
@@ -71,17 +93,7 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
      */
     @Override
     VoxelShape[] getShapeByAge() {
-        return new VoxelShape[]{
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 2.0D, 10.0D),  //1
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 4.0D, 10.0D),  //2
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 6.0D, 10.0D),  //3
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 8.0D, 10.0D),  //4
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 10.0D, 10.0D), //5
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 12.0D, 10.0D), //6
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 14.0D, 10.0D), //7
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 16.0D, 10.0D), //8
-                Block.makeCuboidShape(6.0D, 0.0D, 6.0D, 10.0D, 11.0D, 10.0D)  //9
-        };
+        return SHAPE_BY_AGE;
     }
 
     /**
@@ -129,9 +141,7 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
         if(blockIn == Block.getBlockFromItem(getProduce().getItem())){
             if(worldIn.getBlockState(pos).get(getGrowthProperty()) == this.getMaxGrowthStage())
                 //Reset the plant if the player breaks its produce.
-                worldIn.setBlockState(pos,
-                        this.getDefaultState().with(this.getGrowthProperty(), this.getMaxGrowthStage() - 1)
-                );
+                setGrowthStage(worldIn, pos, this.getMaxGrowthStage() - 1);
         }
     }
 
@@ -141,7 +151,8 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
 
     /**
      * Attempts to place the plants produce in the world
-     * on either of the 4 sides.
+     * on either of the 4 sides, skipping sides in
+     * chunks that are not loaded.
      *
      * @return the direction the produce was placed, {@code null}
      * if the produce could not be placed.
@@ -152,32 +163,36 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
 
         for(int i = 0; i < 4; i++){ //For each side
             BlockPos pos1 = null;
-            BlockState block = null;
             Direction facing = null;
 
             if(random > 3) random = 0;
 
             switch (random){
                 case 0:
-                    pos1 = pos.north(); facing = Direction.NORTH; block = world.getBlockState(pos1);
+                    pos1 = pos.north(); facing = Direction.NORTH;
                     break;
                 case 1:
-                    pos1 = pos.south(); facing = Direction.SOUTH; block = world.getBlockState(pos1);
+                    pos1 = pos.south(); facing = Direction.SOUTH;
                     break;
                 case 2:
-                    pos1 = pos.east(); facing = Direction.EAST; block = world.getBlockState(pos1);
+                    pos1 = pos.east(); facing = Direction.EAST;
                     break;
                 case 3:
-                    pos1 = pos.west(); facing = Direction.WEST; block = world.getBlockState(pos1);
+                    pos1 = pos.west(); facing = Direction.WEST;
                     break;
             }
 
-            if(block == null) return null;
+            if(pos1 == null) return null;
+
+            //Never load a neighbouring chunk to place produce in.
+            if(world.isBlockLoaded(pos1)){
+                BlockState block = world.getBlockState(pos1);
 
-            if(block.getBlock() == Blocks.AIR && world.getBlockState(pos1.down()).isSolid()){ //Place produce block.
-                if(world.setBlockState(pos1, Block.getBlockFromItem(getProduce().getItem()).getDefaultState()))
-                    return facing;
-                else return null;
+                if(block.getBlock() == Blocks.AIR && world.getBlockState(pos1.down()).isSolid()){ //Place produce block.
+                    if(world.setBlockState(pos1, Block.getBlockFromItem(getProduce().getItem()).getDefaultState()))
+                        return facing;
+                    else return null;
+                }
             }
 
             random++;
@@ -209,8 +224,8 @@ public abstract class BlockMetallicPlant extends BlockPlant<BlockMetallicPlant>
 
             if(facing == null) return;
 
-            world.setBlockState(pos, this.getDefaultState().with(this.getGrowthProperty(), growth)
-                    .with(HorizontalBlock.HORIZONTAL_FACING, facing), 2);
+            setGrowthState(world, pos, this.getDefaultState().with(this.getGrowthProperty(), growth)
+                    .with(HorizontalBlock.HORIZONTAL_FACING, facing));
         } else {//Grow Stem
             setGrowthStage(world, pos, growth);
         }
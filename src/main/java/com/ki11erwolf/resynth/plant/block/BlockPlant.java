@@ -18,7 +18,7 @@ package com.ki11erwolf.resynth.plant.block;
 import com.ki11erwolf.resynth.block.BlockEnhancer;
 import com.ki11erwolf.resynth.block.ResynthBlock;
 import com.ki11erwolf.resynth.block.ResynthBlocks;
-import com.ki11erwolf.resynth.block.tileEntity.TileEntityMineralSoil;
+import com.ki11erwolf.resynth.block.soil.MineralSoilStorage;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import com.ki11erwolf.resynth.item.ItemMineralHoe;
@@ -41,12 +41,9 @@ import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.resources.I18n;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
 import net.minecraft.particles.ParticleTypes;
 import net.minecraft.state.IntegerProperty;
 import net.minecraft.state.StateContainer;
-import net.minecraft.tileentity.HopperTileEntity;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.BlockRayTraceResult;
@@ -61,7 +58,6 @@ import net.minecraft.world.IWorld;
 import net.minecraft.world.IWorldReader;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
-import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.IPlantable;
 import net.minecraftforge.common.PlantType;
 
@@ -92,6 +88,13 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      */
     private static final String PLANT_PREFIX = "plant";
 
+    /**
+     * The most growths (each growing the plant to full growth, or
+     * attempting an auto-harvest) applied to a plant at once by
+     * {@link #applyPlantGrowths(World, BlockState, BlockPos, long, boolean)}.
+     */
+    private static final int MAX_APPLIED_GROWTHS = 64;
+
     /**
      * The unique properties of this specific plant type instance. Should
      * be config specified.
@@ -223,6 +226,26 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         return RenderType.getCutoutMipped();
     }
 
+    /**
+     * Drops any cached growth modifier and auto-harvest
+     * target, as well as the chunks record and index entry,
+     * of the plant when it is removed or replaced by another
+     * block.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onReplaced(BlockState state, World world, BlockPos pos, BlockState newState, boolean isMoving) {
+        if(state.getBlock() != newState.getBlock()) {
+            GrowthModifierCache.invalidate(world, pos);
+            AutoHarvestSink.invalidate(world, pos);
+            ChunkGrowthRecord.untrack(world, pos);
+            PlantIndex.remove(world, pos);
+            ScheduledGrowth.forget(world, pos);
+        }
+
+        super.onReplaced(state, world, pos, newState, isMoving);
+    }
+
     // *********
     // Particles
     // *********
@@ -247,9 +270,9 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      *
      * <p/><b>If - and only if the plant is fully grown and
      * config allows,</b> will this method check for any
-     * hoppers below the plants soil block (1 and then 2
-     * blocks below), and if one is found, will try and
-     * dump the produce into the hopper tile entity.
+     * inventory (hopper, chest, etc.) below the plants soil
+     * block (1 and then 2 blocks below), and if one is found,
+     * will try and dump the produce into the inventory.
      *
      * @param growth the final growth stage of the plant.
      * @param world the world the plant is in.
@@ -268,7 +291,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      */
     protected boolean attemptAutoHarvest(int growth, World world, BlockPos pos) {
         //IF enabled
-        if(ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).isHopperAutoFarmingEnabled()) {
+        if(GENERAL_CONFIG.isHopperAutoFarmingEnabled()) {
             //AND       Plant is fully grown     AND      Produce was hoppered.
             if (growth >= getMaxGrowthStage() && tryHopperProduce(world, pos)) {
                 //Success - with particles!
@@ -283,90 +306,18 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     }
 
     /**
-     * Looks for a hopper tile entity 2 and then 3 blocks below
-     * the given plants block position. The FIRST hopper found
-     * will be returned.
-     *
-     * @param world the world the plant block is in.
-     * @param pos the position of the plant in the world.
-     * @return the FIRST {@link HopperTileEntity} found either
-     * 2 or 3 blocks below the plant, or {@code null} if no
-     * hoppers were found.
-     */
-    private HopperTileEntity getHopper(World world, BlockPos pos){
-        BlockPos posA = pos.down(2), posB = posA.down(1);
-
-        TileEntity a;
-        if((a = world.getTileEntity(posA)) instanceof HopperTileEntity)
-                return (HopperTileEntity) a;
-
-        if((a = world.getTileEntity(posB)) instanceof HopperTileEntity)
-            return (HopperTileEntity) a;
-
-        return null;
-    }
-
-    /**
-     * A simple check to see if the plant has any hoppers
-     * below it.
-     *
-     * @param world the world the plant is in.
-     * @param pos the coords of the plant in the world.
-     * @return {@code true} if a hopper was found 2 or 3
-     * blocks beneath the plant. Returns {@code false} if
-     * no hoppers were found.
-     */
-    private boolean hasHopper(World world, BlockPos pos) {
-        return getHopper(world, pos) != null;
-    }
-
-    /**
-     * Will try and dump this plant types produce into any hoppers
-     * (found with {@link #getHopper(World, BlockPos)}) below the
-     * plant.
+     * Will try and dump this plant types produce into any inventory
+     * (found with {@link AutoHarvestSink}) below the plant.
      *
      * @param world the world the plant is in.
      * @param pos the position of the plant in the world.
-     * @return {@code true} if and only if, both a hopper
+     * @return {@code true} if and only if, both an inventory
      * was found below the plant and the plants produce
-     * was successfully placed within the found hopper, {@code
-     * false} otherwise, such as if the hopper if full.
+     * was successfully placed within the found inventory, {@code
+     * false} otherwise, such as if the inventory is full.
      */
     private boolean tryHopperProduce(World world, BlockPos pos){
-        HopperTileEntity hopper = getHopper(world, pos);
-        ItemStack produce = getProduce();
-
-        //No hopper
-        if(hopper == null) return false;
-
-        //For each hopper slot
-        for(int i = 0; i <= 4; i++){
-            ItemStack occupied = hopper.getStackInSlot(i);
-
-            //Combined deposit if produce already in hopper
-            if(occupied.getItem() == produce.getItem()){
-                int newCount = produce.getCount() + occupied.getCount();
-
-                //Check for stack count above 64
-                if(! (newCount > 64)){
-                    ItemStack combinedProduce = new ItemStack(
-                            produce.getItem(), newCount
-                    );
-                    hopper.setInventorySlotContents(i, combinedProduce);
-                    return true;
-                }
-            }
-
-            //Deposit if slot is empty
-            if(occupied == ItemStack.EMPTY || occupied.getItem() == Items.AIR
-                    || occupied.getCount() == 0){
-                hopper.setInventorySlotContents(i, produce);
-                return true;
-            }
-        }
-
-        //Could not deposit
-        return false;
+        return AutoHarvestSink.insert(world, pos, getProduce());
     }
 
     // *************************
@@ -481,7 +432,10 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      * for a random update tick.
      *
      * <p/>When called, it will call {@link #growPlantWithProbability(BlockState, IWorld, BlockPos)},
-     * which is how the plant determines its own growth and ultimately grows.
+     * which is how the plant determines its own growth and ultimately grows - unless
+     * growth is instead handled by {@link ScheduledGrowth}, the {@link PlantIndex},
+     * {@link ParallelGrowth} or {@link UnattendedGrowth}, as chosen by
+     * {@link GrowthMode#of(World)}.
      *
      * @param world the world the plant is in.
      * @param state the block state as it is in the world.
@@ -489,11 +443,103 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      */
     @Override @SuppressWarnings("deprecation")
     public void randomTick(BlockState state, ServerWorld world, BlockPos pos, Random random) {
-        growPlantWithProbability(state, world, pos);
+        switch(GrowthMode.of(world)){
+            case SCHEDULED:
+                if(!world.getPendingBlockTicks().isTickScheduled(pos, this))
+                    scheduleGrowth(world, world.getBlockState(pos), pos);
+                break;
+            case INDEXED:
+                if(!PlantIndex.contains(world, pos))
+                    addToIndex(world, state, pos);
+                break;
+            case PARALLEL:
+                //Grown later, in a batch with the rest of its chunk.
+                ParallelGrowth.onRandomTick(world, pos);
+                break;
+            case UNATTENDED:
+                //Otherwise grown later, in a batch with the rest of its chunk.
+                if(!UnattendedGrowth.defer(world, pos))
+                    growPlantWithProbability(state, world, pos);
+                break;
+            default:
+                growPlantWithProbability(state, world, pos);
+        }
     }
 
     /**
-     * Ensures the plant block is ticked randomly.
+     * Adds the plant to the {@link PlantIndex}, which grows it from then on.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     */
+    private void addToIndex(World world, BlockState state, BlockPos pos){
+        PlantIndex.add(world, pos, this, getGrowthStage(state), calculateChanceOfGrowth(world, state, pos));
+    }
+
+    /**
+     * Called by Minecraft when a scheduled tick on this plant block is due -
+     * only ever scheduled when scheduled growth is enabled for the world
+     * ({@link ScheduledGrowth}).
+     *
+     * <p/>A scheduled tick is always a successful growth (unless it was only
+     * a recheck), after which the next growth tick is scheduled.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     */
+    @Override @SuppressWarnings("deprecation")
+    public void tick(BlockState state, ServerWorld world, BlockPos pos, Random random) {
+        boolean grows = ScheduledGrowth.consume(world, pos);
+        if(!ScheduledGrowth.isEnabled(world))
+            return;
+
+        if(grows && calculateChanceOfGrowth(world, state, pos) > 0)
+            handlePlantGrowth(world, state, pos, 1);
+
+        BlockState newState = world.getBlockState(pos);
+        if(newState.getBlock() == this)
+            scheduleGrowth(world, newState, pos);
+    }
+
+    /**
+     * Records the plant in its chunks {@link ChunkGrowthRecord} when it
+     * is placed, and schedules its first growth tick, or adds it to the
+     * {@link PlantIndex}, if the {@link GrowthMode} of the world needs it.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onBlockAdded(BlockState state, World world, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onBlockAdded(state, world, pos, oldState, isMoving);
+
+        if(oldState.getBlock() == this)
+            return;
+
+        ChunkGrowthRecord.track(world, pos);
+        GrowthMode mode = GrowthMode.of(world);
+        if(mode == GrowthMode.SCHEDULED)
+            scheduleGrowth(world, state, pos);
+        else if(mode == GrowthMode.INDEXED)
+            addToIndex(world, state, pos);
+    }
+
+    /**
+     * Schedules the next growth tick of the plant using
+     * its current chance of growth.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     */
+    private void scheduleGrowth(World world, BlockState state, BlockPos pos){
+        ScheduledGrowth.schedule(world, pos, this, calculateChanceOfGrowth(world, state, pos));
+    }
+
+    /**
+     * Ensures the plant block is ticked randomly. Random ticks
+     * are still needed with scheduled growth, to schedule growth
+     * for plants that have no growth tick yet.
      * @return {@code true} - ensuring the plant block gets random tick updates.
      */
     @Override
@@ -509,7 +555,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      * @param state the plant state in the world.
      * @return {@code true} if the given plant is fully grown.
      */
-    private boolean isFullyGrown(BlockState state){
+    boolean isFullyGrown(BlockState state){
         return getGrowthStage(state) >= getMaxGrowthStage();
     }
 
@@ -551,12 +597,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      * is below the plant.
      */
     private float getMineralContent(World world, BlockPos pos){
-        TileEntityMineralSoil te = null;
-
-        if(world.getTileEntity(pos.down()) instanceof TileEntityMineralSoil)
-            te = (TileEntityMineralSoil) world.getTileEntity(pos.down());
-
-        return te == null ? 0 : te.getMineralPercentage();
+        return MineralSoilStorage.get().getMineralContent(world, pos.down());
     }
 
     /**
@@ -580,7 +621,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     /**
      * @return the base growth chance of this plant instance.
      */
-    private float getPlantBaseGrowthChance(){
+    float getPlantBaseGrowthChance(){
         return properties.growthProbability();
     }
 
@@ -598,6 +639,12 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     /**
      * Used to set the growth stage of a specific plant in the world.
      *
+     * <p/>If enabled, and the change is the result of plant growth
+     * ({@link #applyPlantGrowth(World, BlockState, BlockPos, int)}),
+     * clients are not sent the change immediately - it is batched by
+     * {@link GrowthSync} instead. Player driven changes, such as
+     * right-click harvests, are always sent immediately.
+     *
      * @param world the world the plant is in.
      * @param pos the position of the plant block in the world.
      * @param growthStage the new growth stage of the plant.
@@ -606,12 +653,45 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      */
     @SuppressWarnings("UnusedReturnValue")
     protected boolean setGrowthStage(World world, BlockPos pos, int growthStage) {
-        return world.setBlockState(pos, world.getBlockState(pos).getBlock().getDefaultState().with(
-                getGrowthProperty(), growthStage
-            ), 2
+        return setGrowthState(
+                world, pos, world.getBlockState(pos).getBlock().getDefaultState().with(getGrowthProperty(), growthStage)
         );
     }
 
+    /**
+     * Used to set the state of a specific plant in the world, when the
+     * new state carries other properties along with the growth stage.
+     * Every change to the growth stage of a plant must go through this,
+     * or {@link #setGrowthStage(World, BlockPos, int)}, so that batched
+     * client updates and the {@link PlantIndex} see it.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant block in the world.
+     * @param newState the new state of the plant.
+     * @return {@code true} if the plants state was changed,
+     * {@code false} otherwise.
+     */
+    protected boolean setGrowthState(World world, BlockPos pos, BlockState newState) {
+        BlockState oldState = world.getBlockState(pos);
+        int growthStage = newState.get(getGrowthProperty());
+
+        boolean batched = GrowthSync.isEnabled(world);
+
+        //0 = Don't send to clients, sent later by GrowthSync.
+        if(!world.setBlockState(pos, newState, batched ? 0 : 2))
+            return false;
+
+        if(batched)
+            GrowthSync.markChanged(
+                    world, pos, oldState.getBlock() == this ? getGrowthStage(oldState) : -1, growthStage, getMaxGrowthStage()
+            );
+
+        if(PlantIndex.isEnabled(world))
+            PlantIndex.updateStage(world, pos, growthStage);
+
+        return true;
+    }
+
     // ******************
     // Growable Interface
     // ******************
@@ -658,7 +738,8 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      */
     @Override
     public void grow(ServerWorld world, Random random, BlockPos pos, BlockState state) {
-        handlePlantGrowth(world, state, pos, getGrowthFromBonemeal(random));
+        //Applied & sent immediately, so players see the result of using bonemeal.
+        growOrHarvest(world, state, pos, getGrowthFromBonemeal(random), true);
     }
 
     // *************************
@@ -693,18 +774,25 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     //  Plant Block Growth
     // ********************
 
+    /**
+     * Gives the plant a single chance at growing, using one draw
+     * from the worlds random against the plants current growth
+     * chance ({@link #calculateChanceOfGrowth(World, BlockState, BlockPos)}).
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     */
     private void growPlantFromProbability(World world, BlockState state, BlockPos pos) {
-        MathUtil.Probability.newPercentageProbability(calculateChanceOfGrowth(world, state, pos)).randomResult().ifTrue((b) -> {
+        if(MathUtil.rollPercent(world.rand, calculateChanceOfGrowth(world, state, pos)))
             handlePlantGrowth(world, state, pos, 1);
-            return null;
-        });
     }
 
     /**
      * Always grows the plant type in the world, unless already fully grown.
      *
      * <p/>Handles calling the specific plant types grow method, and ensures
-     * the Forge growth hooks are notified as well. Does NOT handle growth
+     * the growth events are fired as well ({@link GrowthEvents}). Does NOT handle growth
      * checks and luck.
      *
      * @param world the world the plant is in.
@@ -717,13 +805,76 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         if(isFullyGrown(world.getBlockState(pos)))
             return;
 
-        ForgeHooks.onCropsGrowPre(world, pos, state, false);
+        GrowthEvents.pre(world, pos, state);
         onGrowPlantBlock(world, state, pos, increase);
         onPlantGrow(state, world, pos.down(), pos);
-        ForgeHooks.onCropsGrowPost(world, pos, state);
+        GrowthEvents.post(world, pos, state);
     }
 
-    private void handlePlantGrowth(World world, BlockState state, BlockPos pos, int increase) {
+    /**
+     * Grows the plant, or auto-harvests it if fully grown, as the result
+     * of a successful growth decision. If the {@link GrowthScheduler} is
+     * enabled, the growth is queued and applied later instead.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     * @param increase the amount of stages to grow the plant by.
+     */
+    void handlePlantGrowth(World world, BlockState state, BlockPos pos, int increase) {
+        if(GrowthScheduler.isEnabled(world))
+            GrowthScheduler.enqueue(world, pos, increase);
+        else applyPlantGrowth(world, state, pos, increase);
+    }
+
+    /**
+     * Immediately grows the plant, or auto-harvests it if fully grown, as
+     * the result of a growth decision made by the game rather than a player.
+     * The resulting stage changes may be batched by {@link GrowthSync}.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     * @param increase the amount of stages to grow the plant by.
+     */
+    void applyPlantGrowth(World world, BlockState state, BlockPos pos, int increase) {
+        applyPlantGrowth(world, state, pos, increase, true);
+    }
+
+    /**
+     * Immediately grows the plant, or auto-harvests it if fully grown, as
+     * the result of a growth decision made by the game rather than a player.
+     * The resulting stage changes may be batched by {@link GrowthSync}.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     * @param increase the amount of stages to grow the plant by.
+     * @param checkArea {@code true} to only grow the plant if the
+     *                  area around it is loaded.
+     */
+    private void applyPlantGrowth(World world, BlockState state, BlockPos pos, int increase, boolean checkArea) {
+        GrowthSync.beginBatch();
+        try {
+            growOrHarvest(world, state, pos, increase, checkArea);
+        } finally {
+            GrowthSync.endBatch();
+        }
+    }
+
+    /**
+     * Immediately grows the plant, or auto-harvests it if fully grown.
+     * Stage changes are sent to clients immediately, unless called
+     * through {@link #applyPlantGrowth(World, BlockState, BlockPos, int)}.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     * @param increase the amount of stages to grow the plant by.
+     * @param checkArea {@code true} to only grow the plant if the
+     *                  area around it is loaded.
+     */
+    private void growOrHarvest(World world, BlockState state, BlockPos pos, int increase, boolean checkArea) {
         int growth = getGrowthStage(state);
 
         //If fully grown, skip growth and try auto harvest.
@@ -736,7 +887,7 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         }
 
         //Otherwise, if conditions for possible growth are met
-        if(!isGrowthPossible(world, pos))
+        if(checkArea && !isGrowthPossible(world, pos))
             return;
 
         //Finally, if determined, grow in the world
@@ -746,17 +897,81 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
             setGrowthStage(world, pos, getPostHarvestGrowthStage());
     }
 
+    /**
+     * Grows the plant by the given number of single stage growths, in
+     * whole cycles, as random ticks would: the plant is grown to full
+     * growth, the next growth attempts an auto-harvest, and growth
+     * continues from the post-harvest stage - so yield is not lost when
+     * more growths are owed than the plant has stages. Stops early if a
+     * growth changes nothing (e.g. the plant is fully grown and cannot be
+     * auto-harvested), and after {@link #MAX_APPLIED_GROWTHS} growths,
+     * which bounds the work (and auto-harvested produce) of a single call.
+     * Growth is applied immediately, never through the {@link GrowthScheduler}.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     * @param growths the number of single stage growths to apply.
+     * @param checkArea {@code true} to only grow the plant if the
+     *                  area around it is loaded.
+     */
+    void applyPlantGrowths(World world, BlockState state, BlockPos pos, long growths, boolean checkArea) {
+        for(int applied = 0; growths > 0 && applied < MAX_APPLIED_GROWTHS; applied++){
+            int increase = isFullyGrown(state)
+                    ? 1 : (int) Math.min(growths, getMaxGrowthStage() - getGrowthStage(state));
+            applyPlantGrowth(world, state, pos, increase, checkArea);
+            growths -= increase;
+
+            BlockState grown = world.getBlockState(pos);
+            if(grown == state || grown.getBlock() != this)
+                return;
+
+            state = grown;
+        }
+    }
+
+    /**
+     * Grows the plant by the number of stages it would be expected to
+     * have grown, with random ticks, over the given number of ticks. Used
+     * to catch up on the growth missed while the plants chunk was unloaded
+     * or unattended ({@link ChunkGrowthRecord}).
+     *
+     * <p/>The expected number of growths is the elapsed time multiplied
+     * by the plants current chance of growth per tick, with the fraction
+     * rounded up at random so that the expected growth is exact. Growths
+     * are applied in whole cycles, including auto-harvests (see
+     * {@link #applyPlantGrowths(World, BlockState, BlockPos, long, boolean)}),
+     * without checking the area around the plant is loaded - which fails
+     * for plants on the edge of a chunk while it is being loaded, and would
+     * discard their growth. Growing a plant never loads a neighbouring chunk.
+     *
+     * @param world the world the plant is in.
+     * @param state the block state as it is in the world.
+     * @param pos the position of the plant in the world.
+     * @param elapsedTicks the number of ticks the plant missed.
+     */
+    void catchUpGrowth(World world, BlockState state, BlockPos pos, long elapsedTicks) {
+        double expected = ScheduledGrowth.getChancePerTick(
+                world, calculateChanceOfGrowth(world, state, pos)
+        ) * elapsedTicks;
+
+        double whole = Math.floor(expected);
+        if(MathUtil.rollProbability(world.rand, expected - whole))
+            whole++;
+
+        applyPlantGrowths(world, state, pos, (long) whole, false);
+    }
+
     // **********************
     //  Grow Rates & Chances
     // **********************
 
-    private double calculateChanceOfGrowth(World world, BlockState state, BlockPos pos) {
+    double calculateChanceOfGrowth(World world, BlockState state, BlockPos pos) {
         // Get plant value
         double baseGrowth = getPlantBaseGrowthChance();
 
         // Get Soil & Enhancer values
-        double soilModifier = getSoilGrowthModifier(world, pos);
-        double enhancedSoilModifier = applyEnhancerModifier(world, pos, soilModifier);
+        double enhancedSoilModifier = getCachedSoilModifier(world, pos);
 
         // Combine into single probability
         double growthRate = enhancedSoilModifier * baseGrowth;
@@ -765,6 +980,26 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         return applyLightingModifier(world, pos, growthRate);
     }
 
+    /**
+     * Gets the combined soil &amp; enhancer growth modifier of the plant
+     * from the {@link GrowthModifierCache}, computing and caching it
+     * if not already cached.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return the soil growth modifier with the enhancer modifier applied.
+     */
+    private double getCachedSoilModifier(World world, BlockPos pos) {
+        double modifier = GrowthModifierCache.get(world, pos);
+
+        if(modifier == GrowthModifierCache.ABSENT) {
+            modifier = applyEnhancerModifier(world, pos, getSoilGrowthModifier(world, pos));
+            GrowthModifierCache.put(world, pos, modifier);
+        }
+
+        return modifier;
+    }
+
     private double applyLightingModifier(World world, BlockPos pos, double in) {
         if(!GENERAL_CONFIG.isGrowthLightDependent()) return in; //If disabled
 
@@ -773,11 +1008,22 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
     }
 
     private double applyEnhancerModifier(World world, BlockPos pos, double in) {
-        double enhancerModifier = getEnhancerModifier(world, pos);
+        return applyEnhancerModifier(in, getEnhancerModifier(world, pos));
+    }
 
-        if(in >= 0.50 && enhancerModifier != 0)
-            return enhancerModifier + in;
-        else return in;
+    /**
+     * @param soilModifier the growth modifier of the soil below a plant
+     *                     (its Mineral Content, as a fraction).
+     * @param enhancerModifier the growth modifier of the enhancer below
+     *                         the soil (its increase, as a fraction), or
+     *                         {@code 0} if there is none.
+     * @return the soil growth modifier with the enhancer modifier applied,
+     * which only applies to soil with a Mineral Content of 50% or more.
+     */
+    static double applyEnhancerModifier(double soilModifier, double enhancerModifier) {
+        if(soilModifier >= 0.50 && enhancerModifier != 0)
+            return enhancerModifier + soilModifier;
+        else return soilModifier;
     }
 
     private double getLightGrowthModifier(World world, BlockPos pos) {
@@ -815,31 +1061,17 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
         return world.getLight(pos);
     }
 
+    /**
+     * @return the growth multiplier for the given light level, read
+     * from the table precomputed by the {@link GeneralConfig}. The multiplier
+     * depends only on the light level, so {@code maxLightLevel} is unused.
+     */
     public double lightLevelToGrowthMultiplier(int lightLevel, int maxLightLevel) {
-        return lightLevelToGrowthMultiplier(lightLevel, maxLightLevel,
-                getLightLevelZeroPoint(), getWorthPerLightLevel(), getInterestPerLightLevel()
-        );
+        return GENERAL_CONFIG.getLightGrowthMultiplier(lightLevel);
     }
 
     public double lightLevelToGrowthMultiplier(int lightLevel, int maxLightLevel, int zeroPoint, double cost, double interest) {
-        double multiplier = 1D;
-        int difference;
-
-        if ((difference = lightLevel - zeroPoint) > 0)
-            while(difference != 0) {
-                cost += interest;
-                multiplier += cost;
-                difference--;
-            }
-
-        if (difference < 0)
-            while(difference != 0) {
-                cost += interest;
-                multiplier -= cost;
-                difference++;
-            }
-
-        return Math.max(multiplier, 0D);
+        return GeneralConfig.computeLightGrowthMultiplier(lightLevel, zeroPoint, cost, interest);
     }
 
     // **********
@@ -1067,6 +1299,8 @@ public abstract class BlockPlant<T extends BlockPlant<T>> extends ResynthBlock<T
      *
      * @return an array of the plant bounding
      * box shapes for all the growth stages.
+     * Shared by all plants of the type, so
+     * it must not be modified.
      */
     abstract VoxelShape[] getShapeByAge();
 
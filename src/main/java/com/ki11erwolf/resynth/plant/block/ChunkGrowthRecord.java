@@ -0,0 +1,587 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import com.ki11erwolf.resynth.util.MinecraftUtil;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.Short2IntMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.INBT;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.Direction;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.concurrent.TickDelayedTask;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.ICapabilitySerializable;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Chunk capability recording the position of every plant in the chunk,
+ * and the game time the chunk was last saved - used to catch up on the
+ * growth plants missed while their chunk was unloaded.
+ *
+ * <p/>When a chunk with plants is loaded again, the time it spent unloaded
+ * is known, and each plant is grown by the number of stages it would be
+ * expected to have grown in that time with random ticks, including any
+ * auto-harvests (see {@link BlockPlant#catchUpGrowth}). This gives farms
+ * correct yields without needing chunk loaders.
+ *
+ * <p/>Plants are recorded when placed. Chunks saved before plants were
+ * recorded are scanned for plants once, when first loaded. Nothing is
+ * recorded or scanned while none of catch-up growth, parallel growth
+ * ({@link ParallelGrowth}) and unattended growth ({@link UnattendedGrowth})
+ * are enabled.
+ *
+ * <p/>Growth still queued by the {@link GrowthScheduler} for plants in a
+ * chunk when it is unloaded is recorded as owed, and applied when the
+ * chunk is loaded again - whether or not catch-up growth is enabled.
+ *
+ * <p/>Loaded chunks with plants are marked as changed when unloaded and
+ * whenever the world is saved, so the game time saved with them is never
+ * older than the last save - even for chunks nothing else changed in.
+ *
+ * <p/>Positions are packed into a {@code short} with
+ * {@link MinecraftUtil#packChunkRelative(BlockPos)}.
+ */
+public class ChunkGrowthRecord {
+
+    /**
+     * The capability instance, injected by Forge.
+     */
+    @CapabilityInject(ChunkGrowthRecord.class)
+    static Capability<ChunkGrowthRecord> CAPABILITY = null;
+
+    /**
+     * Reference to the general config settings - for enabling catch-up growth.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The name the capability is attached to chunks under.
+     */
+    private static final ResourceLocation ID = new ResourceLocation(ResynthMod.MODID, "growth_record");
+
+    /**
+     * The minimum number of ticks a chunk must have been
+     * unloaded for before its plants catch up on growth.
+     */
+    private static final long MIN_ELAPSED_TICKS = 20;
+
+    /**
+     * The NBT key of the game time the chunk was saved at.
+     */
+    private static final String TIME_KEY = "saved";
+
+    /**
+     * The NBT key of the packed plant positions.
+     */
+    private static final String PLANTS_KEY = "plants";
+
+    /**
+     * The NBT key of the flag set once the chunk has been scanned for
+     * plants placed before they were recorded.
+     */
+    private static final String SCANNED_KEY = "scanned";
+
+    /**
+     * The NBT key of the owed growth.
+     */
+    private static final String OWED_KEY = "owed";
+
+    /**
+     * The position of every loaded chunk with plants, per world.
+     */
+    private static final PerWorld<LongOpenHashSet> PLANT_CHUNKS = new PerWorld<LongOpenHashSet>(LongOpenHashSet::new)
+            .onChunkUnload((chunks, chunk) -> chunks.remove(chunk));
+
+    /**
+     * The packed position of every plant in the chunk.
+     */
+    private final ShortOpenHashSet plants = new ShortOpenHashSet();
+
+    /**
+     * The number of stages owed to plants in the chunk, by packed
+     * position - growth that was still queued when the chunk unloaded.
+     */
+    private final Short2IntOpenHashMap owed = new Short2IntOpenHashMap();
+
+    /**
+     * The game time the chunk was last saved at, as read from
+     * the chunks NBT, or {@code -1} if not known or already used.
+     */
+    private long savedAt = -1;
+
+    /**
+     * {@code true} once the chunk has been scanned for plants
+     * placed before they were recorded.
+     */
+    private boolean scanned = false;
+
+    /**
+     * Creates a new, empty, instance.
+     */
+    ChunkGrowthRecord(){}
+
+    /**
+     * Registers the capability with Forge. Must be called
+     * during common setup.
+     */
+    public static void register(){
+        CapabilityManager.INSTANCE.register(ChunkGrowthRecord.class, new Capability.IStorage<ChunkGrowthRecord>() {
+            @Override
+            public INBT writeNBT(Capability<ChunkGrowthRecord> capability, ChunkGrowthRecord instance, Direction side) {
+                return instance.write(-1);
+            }
+
+            @Override
+            public void readNBT(Capability<ChunkGrowthRecord> capability, ChunkGrowthRecord instance,
+                                Direction side, INBT nbt) {
+                if(nbt instanceof CompoundNBT)
+                    instance.read((CompoundNBT) nbt);
+            }
+        }, ChunkGrowthRecord::new);
+    }
+
+    /**
+     * @param chunk the chunk.
+     * @return the growth record capability of the given
+     * chunk, or {@code null} if it has none (e.g. client side).
+     */
+    @Nullable
+    private static ChunkGrowthRecord of(Chunk chunk){
+        return chunk.getCapability(CAPABILITY).orElse(null);
+    }
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * Records a plant at the given position, if not already recorded.
+     * Called when a plant is placed.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     */
+    static void track(World world, BlockPos pos){
+        if(world.isRemote || !isEnabled())
+            return;
+
+        Chunk chunk = world.getChunkAt(pos);
+        ChunkGrowthRecord record = of(chunk);
+
+        if(record != null && record.plants.add(MinecraftUtil.packChunkRelative(pos))) {
+            chunk.markDirty();
+            PLANT_CHUNKS.get(world).add(chunk.getPos().asLong());
+        }
+    }
+
+    /**
+     * Removes the record of a plant at the given position.
+     *
+     * @param world the world the plant was in.
+     * @param pos the position of the plant in the world.
+     */
+    static void untrack(World world, BlockPos pos){
+        if(world.isRemote)
+            return;
+
+        Chunk chunk = world.getChunkAt(pos);
+        ChunkGrowthRecord record = of(chunk);
+
+        if(record != null && record.plants.remove(MinecraftUtil.packChunkRelative(pos)))
+            chunk.markDirty();
+    }
+
+    /**
+     * Grows every recorded plant in the given chunk by the growth
+     * it would be expected to have had over the given time.
+     *
+     * @param world the world the chunk is in.
+     * @param chunk the chunk.
+     * @param elapsedTicks the number of ticks to grow the plants for.
+     */
+    static void catchUpChunk(World world, Chunk chunk, long elapsedTicks){
+        ChunkGrowthRecord record = of(chunk);
+
+        if(record != null && elapsedTicks > 0)
+            record.catchUp(world, chunk, elapsedTicks);
+    }
+
+    /**
+     * @param world the world.
+     * @return the position of every loaded chunk with plants in
+     * the given world, or {@code null} if there are none.
+     * <b>Must not be modified.</b>
+     */
+    @Nullable
+    static LongOpenHashSet getPlantChunks(World world){
+        return PLANT_CHUNKS.getIfPresent(world);
+    }
+
+    /**
+     * @param chunk the chunk.
+     * @return the packed position of every plant recorded in the given
+     * chunk, or {@code null} if the chunk has no record. Positions that
+     * no longer hold a plant may be removed.
+     */
+    @Nullable
+    static ShortOpenHashSet getPlants(Chunk chunk){
+        ChunkGrowthRecord record = of(chunk);
+        return record == null ? null : record.plants;
+    }
+
+    /**
+     * @return {@code true} if plants are recorded - i.e. if catch-up
+     * growth, parallel growth or unattended growth is enabled.
+     */
+    private static boolean isEnabled(){
+        return GENERAL_CONFIG.isCatchUpGrowthEnabled() || GENERAL_CONFIG.isParallelGrowthEnabled()
+                || GENERAL_CONFIG.getUnattendedGrowthRadius() > 0;
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * Records every plant in the chunk, once. Used for chunks saved
+     * before plants were recorded when placed. Sections whose palette
+     * holds no plant are skipped without looking at their blocks.
+     *
+     * @param chunk the chunk.
+     */
+    private void scan(Chunk chunk){
+        scanned = true;
+
+        for(ChunkSection section : chunk.getSections()){
+            if(ChunkSection.isEmpty(section) || !section.isValidPOIState(state -> state.getBlock() instanceof BlockPlant))
+                continue;
+
+            for(int y = 0; y < 16; y++)
+                for(int z = 0; z < 16; z++)
+                    for(int x = 0; x < 16; x++)
+                        if(section.getBlockState(x, y, z).getBlock() instanceof BlockPlant)
+                            plants.add(MinecraftUtil.packChunkRelative(x, section.getYLocation() + y, z));
+        }
+
+        chunk.markDirty();
+    }
+
+    /**
+     * Grows every recorded plant in the chunk by the growth
+     * it missed while the chunk was unloaded. Positions that
+     * no longer hold a plant are forgotten.
+     *
+     * @param world the world the chunk is in.
+     * @param chunk the chunk.
+     * @param elapsedTicks the number of ticks the chunk was unloaded for.
+     */
+    private void catchUp(World world, Chunk chunk, long elapsedTicks){
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        //Copied, as growing plants can add or remove neighbouring plants.
+        for(short packed : plants.toShortArray()){
+            MinecraftUtil.unpackChunkRelative(packed, chunk.getPos(), pos);
+
+            BlockState state = world.getBlockState(pos);
+            if(state.getBlock() instanceof BlockPlant)
+                ((BlockPlant<?>) state.getBlock()).catchUpGrowth(world, state, pos.toImmutable(), elapsedTicks);
+            else plants.remove(packed);
+        }
+    }
+
+    /**
+     * Marks every loaded chunk with plants in the given world as
+     * changed, so each is saved with the current game time.
+     *
+     * @param world the world.
+     */
+    private static void markPlantChunksDirty(ServerWorld world){
+        LongOpenHashSet chunks = PLANT_CHUNKS.getIfPresent(world);
+        if(chunks == null)
+            return;
+
+        for(LongIterator iterator = chunks.iterator(); iterator.hasNext();){
+            long pos = iterator.nextLong();
+            Chunk chunk = world.getChunkProvider().getChunkNow(ChunkPos.getX(pos), ChunkPos.getZ(pos));
+
+            if(chunk != null)
+                chunk.markDirty();
+        }
+    }
+
+    /**
+     * Records growth owed to the plant at the given position.
+     *
+     * @param pos the position of the plant in the world.
+     * @param growth the number of stages owed.
+     */
+    private void owe(BlockPos pos, int growth){
+        owed.addTo(MinecraftUtil.packChunkRelative(pos), growth);
+    }
+
+    /**
+     * Applies, and forgets, the growth owed to plants in the chunk.
+     *
+     * @param world the world the chunk is in.
+     * @param chunk the chunk.
+     */
+    private void applyOwed(World world, Chunk chunk){
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        Short2IntMap.Entry[] entries = owed.short2IntEntrySet().toArray(new Short2IntMap.Entry[0]);
+        owed.clear();
+        chunk.markDirty();
+
+        for(Short2IntMap.Entry entry : entries){
+            MinecraftUtil.unpackChunkRelative(entry.getShortKey(), chunk.getPos(), pos);
+
+            BlockState state = world.getBlockState(pos);
+            if(state.getBlock() instanceof BlockPlant)
+                ((BlockPlant<?>) state.getBlock()).applyPlantGrowths(world, state, pos.toImmutable(), entry.getIntValue(), false);
+        }
+    }
+
+    /**
+     * Runs the given task on the server thread at the start of the
+     * next tick - outside of chunk loading, where changing blocks
+     * is not safe.
+     *
+     * @param world the world the task acts on.
+     * @param task the task to run.
+     */
+    private static void runLater(ServerWorld world, Runnable task){
+        MinecraftServer server = world.getServer();
+        server.enqueue(new TickDelayedTask(server.getTickCounter(), task));
+    }
+
+    // ***
+    // NBT
+    // ***
+
+    /**
+     * @param gameTime the game time the chunk is being saved at.
+     * @return the record as NBT.
+     */
+    private CompoundNBT write(long gameTime){
+        CompoundNBT nbt = new CompoundNBT();
+        int[] packed = new int[plants.size()];
+        int i = 0;
+
+        for(ShortIterator iterator = plants.iterator(); iterator.hasNext();)
+            packed[i++] = iterator.nextShort() & 0xFFFF;
+
+        int[] packedOwed = new int[owed.size()];
+        i = 0;
+
+        for(Short2IntMap.Entry entry : owed.short2IntEntrySet())
+            packedOwed[i++] = (entry.getShortKey() & 0xFFFF) << 16 | Math.min(entry.getIntValue(), 0xFFFF);
+
+        nbt.putLong(TIME_KEY, gameTime);
+        nbt.putIntArray(PLANTS_KEY, packed);
+        nbt.putIntArray(OWED_KEY, packedOwed);
+        nbt.putBoolean(SCANNED_KEY, scanned);
+        return nbt;
+    }
+
+    /**
+     * @param nbt the record, as written by {@link #write(long)}.
+     */
+    private void read(CompoundNBT nbt){
+        plants.clear();
+
+        for(int entry : nbt.getIntArray(PLANTS_KEY))
+            plants.add((short) entry);
+
+        owed.clear();
+        for(int entry : nbt.getIntArray(OWED_KEY))
+            owed.put((short) (entry >>> 16), entry & 0xFFFF);
+
+        savedAt = nbt.contains(TIME_KEY) ? nbt.getLong(TIME_KEY) : -1;
+        scanned = nbt.getBoolean(SCANNED_KEY);
+    }
+
+    // ********
+    // Provider
+    // ********
+
+    /**
+     * Attaches and serializes the capability for a single chunk.
+     */
+    private static class Provider implements ICapabilitySerializable<CompoundNBT> {
+
+        /**
+         * The chunk the capability is attached to - for the game time.
+         */
+        private final Chunk chunk;
+
+        /**
+         * The chunks growth record.
+         */
+        private final ChunkGrowthRecord instance = new ChunkGrowthRecord();
+
+        /**
+         * The capability handed to callers.
+         */
+        private final LazyOptional<ChunkGrowthRecord> optional = LazyOptional.of(() -> instance);
+
+        /**
+         * @param chunk the chunk the capability is attached to.
+         */
+        private Provider(Chunk chunk){
+            this.chunk = chunk;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Nonnull
+        @Override
+        public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+            return CAPABILITY.orEmpty(cap, optional);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public CompoundNBT serializeNBT() {
+            return instance.write(chunk.getWorld().getGameTime());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void deserializeNBT(CompoundNBT nbt) {
+            instance.read(nbt);
+        }
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    /**
+     * Attaches the capability to every server side chunk, scans chunks
+     * not yet scanned for plants, starts catch-up growth when a chunk
+     * with plants is loaded again, keeps the game time saved with
+     * chunks with plants current, and records growth still queued
+     * for a chunk when it is unloaded.
+     */
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onAttachChunkCapabilities(AttachCapabilitiesEvent<Chunk> event) {
+            Chunk chunk = event.getObject();
+
+            if(chunk.getWorld() != null && !chunk.getWorld().isRemote())
+                event.addCapability(ID, new Provider(chunk));
+        }
+
+        @SubscribeEvent
+        public static void onChunkLoad(ChunkEvent.Load event) {
+            if(!(event.getWorld() instanceof ServerWorld) || !(event.getChunk() instanceof Chunk))
+                return;
+
+            ServerWorld world = (ServerWorld) event.getWorld();
+            Chunk chunk = (Chunk) event.getChunk();
+            ChunkGrowthRecord record = of(chunk);
+
+            if(record == null)
+                return;
+
+            if(!record.scanned && isEnabled())
+                record.scan(chunk);
+
+            if(!record.plants.isEmpty())
+                PLANT_CHUNKS.get(world).add(chunk.getPos().asLong());
+
+            if(!record.owed.isEmpty())
+                runLater(world, () -> {
+                    if(world.getChunkProvider().getChunkNow(chunk.getPos().x, chunk.getPos().z) == chunk)
+                        record.applyOwed(world, chunk);
+                });
+
+            if(record.savedAt < 0)
+                return;
+
+            long elapsedTicks = world.getGameTime() - record.savedAt;
+            record.savedAt = -1;
+
+            if(elapsedTicks < MIN_ELAPSED_TICKS || record.plants.isEmpty() || !GENERAL_CONFIG.isCatchUpGrowthEnabled())
+                return;
+
+            runLater(world, () -> {
+                if(world.getChunkProvider().getChunkNow(chunk.getPos().x, chunk.getPos().z) == chunk)
+                    record.catchUp(world, chunk, elapsedTicks);
+            });
+        }
+
+        /*
+         * Fired before the chunk is saved for the last time.
+         */
+        @SubscribeEvent
+        public static void onChunkUnload(ChunkEvent.Unload event) {
+            if(!(event.getWorld() instanceof ServerWorld) || !(event.getChunk() instanceof Chunk))
+                return;
+
+            Chunk chunk = (Chunk) event.getChunk();
+            ChunkGrowthRecord record = of(chunk);
+            if(record == null)
+                return;
+
+            GrowthScheduler.removeQueued((ServerWorld) event.getWorld(), chunk.getPos(), record::owe);
+            if(!record.owed.isEmpty() || (isEnabled() && !record.plants.isEmpty()))
+                chunk.markDirty();
+        }
+
+        /*
+         * Chunks marked here are saved by the next save at the
+         * latest, which is when the world is closed on shutdown.
+         */
+        @SubscribeEvent
+        public static void onWorldSave(WorldEvent.Save event) {
+            if(event.getWorld() instanceof ServerWorld && isEnabled())
+                markPlantChunksDirty((ServerWorld) event.getWorld());
+        }
+    }
+}
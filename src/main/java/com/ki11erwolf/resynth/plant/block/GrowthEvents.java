@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.common.ForgeHooks;
+import net.minecraftforge.common.MinecraftForge;
+
+/**
+ * Dispatches the events fired when plants grow, as configured
+ * in the {@link GeneralConfig}:
+ * <ul>
+ *     <li>Forge - the Forge crop grow pre &amp; post events,
+ *     for every growth of every plant (default).</li>
+ *     <li>None - no events at all.</li>
+ *     <li>Batched - a single {@link PlantsGrewEvent} per world
+ *     per tick, with the position of every plant that grew.</li>
+ * </ul>
+ */
+final class GrowthEvents {
+
+    /**
+     * Reference to the general config settings - for the event mode.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The plants that grew this tick, by world.
+     */
+    private static final PerWorld<LongArrayList> GROWN
+            = new PerWorld<LongArrayList>(LongArrayList::new).onTick(GrowthEvents::fireBatched);
+
+    //Static class.
+    private GrowthEvents(){}
+
+    /**
+     * Called before a plant grows.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param state the plants state before growing.
+     */
+    static void pre(World world, BlockPos pos, BlockState state){
+        if(GENERAL_CONFIG.areCropGrowEventsForge())
+            ForgeHooks.onCropsGrowPre(world, pos, state, false);
+    }
+
+    /**
+     * Called after a plant grows.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param state the plants state before growing.
+     */
+    static void post(World world, BlockPos pos, BlockState state){
+        if(GENERAL_CONFIG.areCropGrowEventsForge())
+            ForgeHooks.onCropsGrowPost(world, pos, state);
+        else if(GENERAL_CONFIG.areCropGrowEventsBatched() && !world.isRemote)
+            GROWN.get(world).add(pos.toLong());
+    }
+
+    /**
+     * Fires the batched event for the plants that grew in a
+     * world this tick. Called at the end of every world tick.
+     *
+     * @param world the world.
+     * @param grown the plants that grew in the world this tick.
+     */
+    private static void fireBatched(ServerWorld world, LongArrayList grown){
+        if(grown.isEmpty())
+            return;
+
+        //Handed to listeners, so replaced rather than cleared.
+        GROWN.put(world, new LongArrayList());
+        MinecraftForge.EVENT_BUS.post(new PlantsGrewEvent(world, grown));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import net.minecraft.util.RegistryKey;
+import net.minecraft.world.World;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The ways plants can be grown, one of which is used in each world, as
+ * chosen by {@link #of(World)} from the {@link GeneralConfig}.
+ *
+ * <p/>When more than one is enabled for a world, the first enabled in
+ * declaration order is used: {@link #SCHEDULED}, then {@link #INDEXED},
+ * then {@link #PARALLEL}, then {@link #UNATTENDED}, and otherwise {@link #RANDOM}.
+ *
+ * <p/>The mode of each world is resolved once and cached, as it is looked
+ * up for every plant growth, until the general config is reloaded.
+ */
+enum GrowthMode {
+
+    /**
+     * Plants grow on scheduled ticks ({@link ScheduledGrowth}).
+     */
+    SCHEDULED,
+
+    /**
+     * Plants grow from the {@link PlantIndex}.
+     */
+    INDEXED,
+
+    /**
+     * Plants grow in batches decided on multiple threads ({@link ParallelGrowth}).
+     */
+    PARALLEL,
+
+    /**
+     * Plants grow on random ticks, except in chunks with no players
+     * nearby, where growth is batched ({@link UnattendedGrowth}).
+     */
+    UNATTENDED,
+
+    /**
+     * Plants grow on random ticks.
+     */
+    RANDOM;
+
+    /**
+     * Reference to the general config settings - for the enabled growth modes.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The resolved mode of each server world, by dimension. Replaced,
+     * rather than cleared, when the general config is reloaded.
+     */
+    private static volatile Map<RegistryKey<World>, GrowthMode> modes = new IdentityHashMap<>();
+
+    static {
+        ResynthConfig.GENERAL_CONFIG.addReloadListener(changed -> modes = new IdentityHashMap<>());
+    }
+
+    /**
+     * @param world the world the plant is in.
+     * @return the way plants in the given world are grown -
+     * always {@link #RANDOM} on the client.
+     */
+    static GrowthMode of(World world){
+        if(world.isRemote)
+            return RANDOM;
+
+        Map<RegistryKey<World>, GrowthMode> modes = GrowthMode.modes;
+        GrowthMode mode = modes.get(world.getDimensionKey());
+
+        if(mode == null)
+            modes.put(world.getDimensionKey(), mode = resolve(world));
+
+        return mode;
+    }
+
+    /**
+     * @param world the server world the plant is in.
+     * @return the way plants in the given world are grown,
+     * from the current config.
+     */
+    private static GrowthMode resolve(World world){
+        if(GENERAL_CONFIG.isScheduledGrowthEnabled(world.getDimensionKey().getLocation().toString()))
+            return SCHEDULED;
+        else if(GENERAL_CONFIG.isPlantIndexEnabled())
+            return INDEXED;
+        else if(GENERAL_CONFIG.isParallelGrowthEnabled())
+            return PARALLEL;
+        else if(GENERAL_CONFIG.getUnattendedGrowthRadius() > 0)
+            return UNATTENDED;
+
+        return RANDOM;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+
+/**
+ * A server side, chunk scoped cache of the soil &amp; enhancer growth
+ * modifier of every plant that has been randomly ticked.
+ *
+ * <p/>Computing the soil modifier of a plant requires a Mineral Content lookup
+ * (the Mineral Soil below the plant) and a block state lookup (the Enhancer
+ * two blocks below the plant). Both only change when the Mineral Content
+ * of the soil changes or a block next to the soil changes, so the result is
+ * cached per plant position and invalidated by:
+ * <ul>
+ *     <li>{@link BlockPlant#onReplaced} - the plant itself is removed or changed.</li>
+ *     <li>{@link com.ki11erwolf.resynth.block.BlockMineralSoil#neighborChanged} - the
+ *     Enhancer below the soil (or any other soil neighbour) changed.</li>
+ *     <li>{@link com.ki11erwolf.resynth.block.soil.MineralSoilStorage#setMineralContent}
+ *     - the soils Mineral Content changed.</li>
+ *     <li>Chunk &amp; world unloading.</li>
+ * </ul>
+ *
+ * <p/>Only ever accessed from the server thread - calls made with a
+ * client world are ignored.
+ */
+public final class GrowthModifierCache {
+
+    /**
+     * Value returned by {@link #get(IWorld, BlockPos)} when no modifier is
+     * cached for the given position.
+     */
+    static final double ABSENT = -1.0D;
+
+    /**
+     * Every cached modifier, by world, then by chunk, then by block position.
+     */
+    private static final PerWorld<Long2ObjectOpenHashMap<Long2DoubleOpenHashMap>> CACHE
+            = new PerWorld<Long2ObjectOpenHashMap<Long2DoubleOpenHashMap>>(Long2ObjectOpenHashMap::new)
+            .onChunkUnload((chunks, chunk) -> chunks.remove(chunk));
+
+    //Static class.
+    private GrowthModifierCache(){}
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return the cached soil &amp; enhancer growth modifier of the plant at
+     * the given position, or {@link #ABSENT} if none is cached.
+     */
+    static double get(IWorld world, BlockPos pos){
+        Long2ObjectOpenHashMap<Long2DoubleOpenHashMap> chunks = CACHE.getIfPresent(world);
+        if(chunks == null)
+            return ABSENT;
+
+        Long2DoubleOpenHashMap modifiers = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        return modifiers == null ? ABSENT : modifiers.get(pos.toLong());
+    }
+
+    /**
+     * Caches the soil &amp; enhancer growth modifier of the plant at the
+     * given position.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param modifier the computed growth modifier.
+     */
+    static void put(IWorld world, BlockPos pos, double modifier){
+        if(world.isRemote())
+            return;
+
+        Long2DoubleOpenHashMap modifiers = CACHE.get(world).computeIfAbsent(
+                ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), c -> newChunkMap());
+        modifiers.put(pos.toLong(), modifier);
+    }
+
+    /**
+     * Removes any cached growth modifier for the plant at the given position,
+     * forcing it to be recomputed on its next growth roll.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     */
+    public static void invalidate(IWorld world, BlockPos pos){
+        if(world.isRemote())
+            return;
+
+        Long2ObjectOpenHashMap<Long2DoubleOpenHashMap> chunks = CACHE.getIfPresent(world);
+        if(chunks == null)
+            return;
+
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2DoubleOpenHashMap modifiers = chunks.get(chunk);
+        if(modifiers != null && modifiers.remove(pos.toLong()) != ABSENT && modifiers.isEmpty())
+            chunks.remove(chunk);
+    }
+
+    /**
+     * @return a new, empty, position to modifier map which returns
+     * {@link #ABSENT} for unknown positions.
+     */
+    private static Long2DoubleOpenHashMap newChunkMap(){
+        Long2DoubleOpenHashMap map = new Long2DoubleOpenHashMap();
+        map.defaultReturnValue(ABSENT);
+        return map;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import it.unimi.dsi.fastutil.longs.Long2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Spreads the block updates caused by plant growth over multiple ticks,
+ * so that large farms (or large farm chunks being loaded) cannot spike
+ * the servers tick time.
+ *
+ * <p/>When enabled in the {@link GeneralConfig}, every successful growth
+ * decision made by {@link BlockPlant} is queued instead of applied. At the
+ * end of each world tick, queued growth is applied - including any auto-harvest
+ * and produce placement it causes - in the order it was queued, until either
+ * the configured number of updates or the configured time budget is used up.
+ * Whatever is left over is carried over to the next tick, ahead of anything
+ * queued later. Growth queued for a plant that is already queued is merged
+ * into the existing entry, and applied in whole grow-and-harvest cycles
+ * ({@link BlockPlant#applyPlantGrowths}), so no growth or harvest is lost.
+ * Growth still queued for a chunk when it is unloaded is handed to the
+ * chunks {@link ChunkGrowthRecord}, and applied when the chunk is loaded again.
+ *
+ * <p/>Only ever accessed from the server thread.
+ */
+public final class GrowthScheduler {
+
+    /**
+     * Reference to the general config settings - for the update limits.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The queued growth, by world, as plant position to the number of
+     * stages to grow it by - in the order it was queued.
+     */
+    private static final PerWorld<Long2IntLinkedOpenHashMap> QUEUES
+            = new PerWorld<Long2IntLinkedOpenHashMap>(Long2IntLinkedOpenHashMap::new)
+            .onTick(GrowthScheduler::applyQueued);
+
+    /**
+     * The number of queued growths applied since the game started.
+     */
+    private static long appliedGrowths = 0;
+
+    /**
+     * The number of times queued growth was carried over to
+     * the next tick since the game started.
+     */
+    private static long deferredGrowths = 0;
+
+    //Static class.
+    private GrowthScheduler(){}
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * @param world the world the plant is in.
+     * @return {@code true} if growth in the given
+     * world should be queued.
+     */
+    static boolean isEnabled(World world){
+        return !world.isRemote && GENERAL_CONFIG.getGrowthUpdatesPerTick() > 0;
+    }
+
+    /**
+     * Queues growth for the plant at the given position.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param increase the number of stages to grow the plant by.
+     */
+    static void enqueue(World world, BlockPos pos, int increase){
+        QUEUES.get(world).addTo(pos.toLong(), increase);
+    }
+
+    /**
+     * Removes the growth queued for every plant in the given chunk,
+     * handing each plant position &amp; its queued growth to the given
+     * consumer. Called when the chunk is unloaded.
+     *
+     * @param world the world the chunk is in.
+     * @param chunk the position of the chunk.
+     * @param consumer given the position of each plant in the chunk
+     *                 &amp; the number of stages queued for it.
+     */
+    static void removeQueued(World world, ChunkPos chunk, ObjIntConsumer<BlockPos> consumer){
+        Long2IntLinkedOpenHashMap queue = QUEUES.getIfPresent(world);
+        if(queue == null || queue.isEmpty())
+            return;
+
+        for(ObjectIterator<Long2IntMap.Entry> iterator = queue.long2IntEntrySet().fastIterator(); iterator.hasNext();){
+            Long2IntMap.Entry entry = iterator.next();
+            long packedPos = entry.getLongKey();
+
+            if(BlockPos.unpackX(packedPos) >> 4 == chunk.x && BlockPos.unpackZ(packedPos) >> 4 == chunk.z){
+                consumer.accept(BlockPos.fromLong(packedPos), entry.getIntValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of queued growths applied
+     * since the game started.
+     */
+    public static long getAppliedGrowths(){
+        return appliedGrowths;
+    }
+
+    /**
+     * @return the number of times queued growth was carried
+     * over to the next tick since the game started.
+     */
+    public static long getDeferredGrowths(){
+        return deferredGrowths;
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * Applies queued growth for a single world, within the configured
+     * update and time limits. Called at the end of every world tick.
+     *
+     * @param world the world.
+     * @param queue the worlds queued growth.
+     */
+    private static void applyQueued(World world, Long2IntLinkedOpenHashMap queue){
+        int maxUpdates = GENERAL_CONFIG.getGrowthUpdatesPerTick();
+        //Limits disabled - drain everything.
+        if(maxUpdates <= 0)
+            maxUpdates = Integer.MAX_VALUE;
+
+        long budget = GENERAL_CONFIG.getGrowthTickBudgetMicros() * 1000L;
+        long start = System.nanoTime();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for(int updates = 0; !queue.isEmpty() && updates < maxUpdates; updates++){
+            //Always apply at least one, so the queue is guaranteed to drain.
+            if(updates > 0 && System.nanoTime() - start >= budget)
+                break;
+
+            long packedPos = queue.firstLongKey();
+            int increase = queue.removeFirstInt();
+            pos.setPos(BlockPos.unpackX(packedPos), BlockPos.unpackY(packedPos), BlockPos.unpackZ(packedPos));
+
+            //Never the case, as queued growth is removed when its chunk unloads.
+            if(!world.isBlockLoaded(pos))
+                continue;
+
+            BlockState state = world.getBlockState(pos);
+            if(state.getBlock() instanceof BlockPlant){
+                ((BlockPlant<?>) state.getBlock()).applyPlantGrowths(world, state, pos.toImmutable(), increase, true);
+                appliedGrowths++;
+            }
+        }
+
+        deferredGrowths += queue.size();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+
+/**
+ * Batches the client updates sent when plants change growth stage.
+ *
+ * <p/>Normally, every growth stage change sends the new block state to
+ * every player tracking the chunk. When enabled in the {@link GeneralConfig},
+ * growth stage changes caused by plant growth (random, scheduled, indexed,
+ * queued and catch-up growth - not player actions such as harvesting or
+ * bonemeal, which players expect to see at once) are instead made without notifying clients, and the
+ * changed positions are collected per world. Every configured number of ticks,
+ * they are all marked as changed at once - which Minecraft sends as a single
+ * multi-block update per chunk section.
+ *
+ * <p/>The visual granularity of growth can also be reduced: with a stage step
+ * above 1, only changes that cross into a new group of stages (or reach full
+ * growth, or reset the plant) are sent. Clients always see a stage in the same
+ * group as the actual stage.
+ *
+ * <p/>Only ever accessed from the server thread.
+ */
+final class GrowthSync {
+
+    /**
+     * Reference to the general config settings - for the sync interval &amp; stage step.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The positions, by world, of plants whose changes are yet to be sent.
+     */
+    private static final PerWorld<LongOpenHashSet> PENDING
+            = new PerWorld<LongOpenHashSet>(LongOpenHashSet::new).onTick(GrowthSync::flushIfDue);
+
+    /**
+     * The depth of nested {@link #beginBatch()} calls - changes
+     * are only batched while above 0.
+     */
+    private static int batchDepth = 0;
+
+    //Static class.
+    private GrowthSync(){}
+
+    /**
+     * Starts a section of plant growth whose stage changes may be
+     * batched. Must be paired with {@link #endBatch()}.
+     */
+    static void beginBatch(){
+        batchDepth++;
+    }
+
+    /**
+     * Ends a section started by {@link #beginBatch()}.
+     */
+    static void endBatch(){
+        batchDepth--;
+    }
+
+    /**
+     * @param world the world the plant is in.
+     * @return {@code true} if growth stage changes in the given
+     * world should be batched through {@link #markChanged}, instead
+     * of sent to clients immediately - i.e. if enabled, and called
+     * between {@link #beginBatch()} and {@link #endBatch()}.
+     */
+    static boolean isEnabled(World world){
+        return !world.isRemote && batchDepth > 0
+                && (GENERAL_CONFIG.getGrowthSyncInterval() > 1 || GENERAL_CONFIG.getGrowthSyncStageStep() > 1);
+    }
+
+    /**
+     * Queues the growth stage change of a plant to be sent to clients,
+     * unless the stage step allows skipping it.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param oldStage the previous growth stage, or {@code -1}
+     *                 if the block was not the plant.
+     * @param newStage the new growth stage.
+     * @param maxStage the maximum growth stage of the plant.
+     */
+    static void markChanged(World world, BlockPos pos, int oldStage, int newStage, int maxStage){
+        int step = GENERAL_CONFIG.getGrowthSyncStageStep();
+
+        if(oldStage >= 0 && newStage > oldStage && newStage < maxStage && newStage / step == oldStage / step)
+            return;
+
+        PENDING.get(world).add(pos.toLong());
+    }
+
+    /**
+     * Flushes the pending changes of a world if the world tick falls on
+     * the sync interval. Called at the end of every world tick.
+     *
+     * @param world the world.
+     * @param pending the pending positions.
+     */
+    private static void flushIfDue(ServerWorld world, LongOpenHashSet pending){
+        if(pending.isEmpty())
+            return;
+
+        int interval = GENERAL_CONFIG.getGrowthSyncInterval();
+        if(interval <= 1 || world.getGameTime() % interval == 0)
+            flush(world, pending);
+    }
+
+    /**
+     * Marks every pending position in the world as changed,
+     * so Minecraft sends them to clients.
+     *
+     * @param world the world.
+     * @param pending the pending positions.
+     */
+    private static void flush(ServerWorld world, LongOpenHashSet pending){
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        for(LongIterator iterator = pending.iterator(); iterator.hasNext();){
+            long packedPos = iterator.nextLong();
+            pos.setPos(BlockPos.unpackX(packedPos), BlockPos.unpackY(packedPos), BlockPos.unpackZ(packedPos));
+            world.getChunkProvider().markBlockChanged(pos);
+        }
+
+        pending.clear();
+    }
+}
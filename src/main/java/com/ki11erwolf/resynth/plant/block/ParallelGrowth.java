@@ -0,0 +1,425 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.block.BlockEnhancer;
+import com.ki11erwolf.resynth.block.soil.MineralSoilStorage;
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import com.ki11erwolf.resynth.util.MinecraftUtil;
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Decides plant growth in batches on multiple threads, enabled in
+ * the {@link GeneralConfig}, in two phases.
+ *
+ * <p/>Plants skip all work when randomly ticked. Instead, every configured
+ * number of seconds, phase one copies what the growth of every plant in
+ * each loaded chunk depends on - the Mineral Content of its soil, the
+ * increase of its enhancer, its light level and its growth stage - on the
+ * server thread, into one snapshot per chunk. Plants that cannot change
+ * (fully grown, with hopper auto-farming disabled) are left out. The
+ * common fork-join pool then decides, one task per chunk with its own
+ * {@link SplittableRandom}, how many times each plant would be expected
+ * to have grown with random ticks since its chunk was last decided - the
+ * same way catch-up growth does ({@link BlockPlant#catchUpGrowth}). Phase
+ * two applies the decided growth, including auto-harvests, on the server
+ * thread at the end of the next tick, through the {@link GrowthScheduler}
+ * if enabled.
+ *
+ * <p/>The snapshots are only ever written by the server thread before
+ * the decisions start, and only read by it after they finish - the
+ * decisions never touch the world. Plants are found through their chunks
+ * {@link ChunkGrowthRecord}. A chunk is first decided one interval after
+ * it is first seen loaded; growth in between is lost, as with
+ * {@link UnattendedGrowth}.
+ *
+ * <p/>With a configured seed, the random of each chunk is seeded from
+ * the seed, the game time and the chunk only, so the same world state
+ * always gives the same growth regardless of thread scheduling.
+ */
+final class ParallelGrowth {
+
+    /**
+     * Reference to the general config settings - for the interval &amp; seed.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The number of light levels.
+     */
+    private static final int LIGHT_LEVELS = 16;
+
+    /**
+     * The state of each world.
+     */
+    private static final PerWorld<WorldState> STATES = new PerWorld<WorldState>(WorldState::new)
+            .onTick(ParallelGrowth::tick)
+            .onChunkUnload((state, chunk) -> state.decidedAt.remove(chunk));
+
+    //Static class.
+    private ParallelGrowth(){}
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * Called when a plant is randomly ticked while parallel growth is
+     * used in its world. Makes sure the plant is recorded - so it is
+     * found by the next batch - and that the world is ticked.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     */
+    static void onRandomTick(World world, BlockPos pos){
+        STATES.get(world);
+        ChunkGrowthRecord.track(world, pos);
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * Applies the decisions of the last batch, if any, then starts
+     * the next batch if it is due. Called at the end of every world tick.
+     *
+     * @param world the world.
+     * @param state the worlds state.
+     */
+    private static void tick(ServerWorld world, WorldState state){
+        if(state.decisions != null){
+            state.decisions.join();
+            for(ChunkSnapshot snapshot : state.snapshots)
+                snapshot.apply(world);
+
+            state.decisions = null;
+            state.snapshots = null;
+        }
+
+        //Forgotten while unused, so growth is never decided for the time in between.
+        if(GrowthMode.of(world) != GrowthMode.PARALLEL){
+            state.decidedAt.clear();
+            return;
+        }
+
+        long now = world.getGameTime();
+        if(now % (GENERAL_CONFIG.getParallelGrowthInterval() * 20L) != 0)
+            return;
+
+        List<ChunkSnapshot> snapshots = snapshot(world, state, now);
+        if(snapshots.isEmpty())
+            return;
+
+        int randomTickSpeed = world.getGameRules().getInt(GameRules.RANDOM_TICK_SPEED);
+        double[] lightMultipliers = new double[LIGHT_LEVELS];
+        for(int light = 0; light < LIGHT_LEVELS; light++)
+            lightMultipliers[light] = GENERAL_CONFIG.isGrowthLightDependent()
+                    ? GENERAL_CONFIG.getLightGrowthMultiplier(light) : 1D;
+
+        state.snapshots = snapshots;
+        state.decisions = ForkJoinPool.commonPool().submit(
+                () -> snapshots.parallelStream().forEach(snapshot -> snapshot.decide(randomTickSpeed, lightMultipliers))
+        );
+    }
+
+    /**
+     * Phase one: snapshots every loaded chunk with plants in the world
+     * that was already decided before, or seen loaded since.
+     *
+     * @param world the world.
+     * @param state the worlds state.
+     * @param now the current game time.
+     * @return the snapshot of each chunk with plants to decide.
+     */
+    private static List<ChunkSnapshot> snapshot(ServerWorld world, WorldState state, long now){
+        List<ChunkSnapshot> snapshots = new ArrayList<>();
+        LongOpenHashSet chunks = ChunkGrowthRecord.getPlantChunks(world);
+        if(chunks == null)
+            return snapshots;
+
+        int seed = GENERAL_CONFIG.getParallelGrowthSeed();
+        for(LongIterator iterator = chunks.iterator(); iterator.hasNext();){
+            long chunkPos = iterator.nextLong();
+            Chunk chunk = world.getChunkProvider().getChunkNow(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos));
+            if(chunk == null)
+                continue;
+
+            //First seen - decided from the next batch on.
+            long decidedAt = state.decidedAt.put(chunkPos, now);
+            if(decidedAt < 0 || decidedAt >= now)
+                continue;
+
+            long randomSeed = seed > 0
+                    ? HashCommon.murmurHash3(HashCommon.murmurHash3(seed ^ now) ^ chunkPos)
+                    : world.rand.nextLong();
+
+            ChunkSnapshot snapshot = ChunkSnapshot.take(world, chunk, now - decidedAt, randomSeed);
+            if(snapshot != null)
+                snapshots.add(snapshot);
+        }
+
+        return snapshots;
+    }
+
+    // ***********
+    // World State
+    // ***********
+
+    /**
+     * The parallel growth state of a single world.
+     */
+    private static final class WorldState {
+
+        /**
+         * The game time, by chunk, each loaded chunk
+         * with plants last had its growth decided.
+         */
+        private final Long2LongOpenHashMap decidedAt = new Long2LongOpenHashMap();
+
+        /**
+         * The running, or finished, decisions of the last batch.
+         * {@code null} once applied.
+         */
+        private ForkJoinTask<?> decisions;
+
+        /**
+         * The snapshots of the last batch, decided by {@link #decisions}.
+         */
+        private List<ChunkSnapshot> snapshots;
+
+        /**
+         * Creates the state of a world with no batch.
+         */
+        private WorldState(){
+            decidedAt.defaultReturnValue(-1);
+        }
+    }
+
+    // **************
+    // Chunk Snapshot
+    // **************
+
+    /**
+     * A copy of everything the growth of the plants in a single chunk
+     * depends on, and the growth decided for them.
+     */
+    private static final class ChunkSnapshot {
+
+        /**
+         * The position of the chunk.
+         */
+        private final ChunkPos chunkPos;
+
+        /**
+         * The number of ticks to decide growth for.
+         */
+        private final long elapsedTicks;
+
+        /**
+         * The seed of the random the decisions are made with.
+         */
+        private final long seed;
+
+        /**
+         * The packed position of each plant.
+         */
+        private final short[] positions;
+
+        /**
+         * The base chance of growth of each plant.
+         */
+        private final float[] baseChances;
+
+        /**
+         * The Mineral Content of the soil below each plant.
+         */
+        private final float[] mineralContents;
+
+        /**
+         * The increase of the enhancer below the soil of
+         * each plant, or {@code 0} if there is none.
+         */
+        private final float[] enhancements;
+
+        /**
+         * The light level of each plant.
+         */
+        private final byte[] lightLevels;
+
+        /**
+         * The number of times each plant grows, once decided.
+         */
+        private final int[] growths;
+
+        /**
+         * @param chunkPos the position of the chunk.
+         * @param elapsedTicks the number of ticks to decide growth for.
+         * @param seed the seed of the random the decisions are made with.
+         * @param plants the number of plants in the snapshot.
+         */
+        private ChunkSnapshot(ChunkPos chunkPos, long elapsedTicks, long seed, int plants){
+            this.chunkPos = chunkPos;
+            this.elapsedTicks = elapsedTicks;
+            this.seed = seed;
+            this.positions = new short[plants];
+            this.baseChances = new float[plants];
+            this.mineralContents = new float[plants];
+            this.enhancements = new float[plants];
+            this.lightLevels = new byte[plants];
+            this.growths = new int[plants];
+        }
+
+        /**
+         * Takes a snapshot of every recorded plant in the given chunk that
+         * can change. Positions that no longer hold a plant are forgotten.
+         * Must be called on the server thread.
+         *
+         * @param world the world the chunk is in.
+         * @param chunk the chunk.
+         * @param elapsedTicks the number of ticks to decide growth for.
+         * @param seed the seed of the random the decisions are made with.
+         * @return the snapshot, or {@code null} if the chunk
+         * has no plants that can change.
+         */
+        private static ChunkSnapshot take(World world, Chunk chunk, long elapsedTicks, long seed){
+            ShortOpenHashSet plants = ChunkGrowthRecord.getPlants(chunk);
+            if(plants == null || plants.isEmpty())
+                return null;
+
+            ChunkSnapshot snapshot = new ChunkSnapshot(chunk.getPos(), elapsedTicks, seed, plants.size());
+            MineralSoilStorage storage = MineralSoilStorage.get();
+            boolean harvests = GENERAL_CONFIG.isHopperAutoFarmingEnabled();
+            BlockPos.Mutable pos = new BlockPos.Mutable();
+            int count = 0;
+
+            for(ShortIterator iterator = plants.iterator(); iterator.hasNext();){
+                short packed = iterator.nextShort();
+                MinecraftUtil.unpackChunkRelative(packed, chunk.getPos(), pos);
+
+                BlockState state = chunk.getBlockState(pos);
+                if(!(state.getBlock() instanceof BlockPlant)){
+                    iterator.remove();
+                    continue;
+                }
+
+                BlockPlant<?> plant = (BlockPlant<?>) state.getBlock();
+                if(!harvests && plant.isFullyGrown(state))
+                    continue;
+
+                BlockState enhancer = chunk.getBlockState(pos.move(0, -2, 0));
+                pos.move(0, 2, 0);
+
+                snapshot.positions[count] = packed;
+                snapshot.baseChances[count] = plant.getPlantBaseGrowthChance();
+                snapshot.mineralContents[count] = storage.getMineralContent(world, pos.down());
+                snapshot.enhancements[count] = enhancer.getBlock() instanceof BlockEnhancer
+                        ? ((BlockEnhancer) enhancer.getBlock()).getIncrease() : 0;
+                snapshot.lightLevels[count] = (byte) world.getLight(pos);
+                count++;
+            }
+
+            return count == 0 ? null : snapshot.trim(count);
+        }
+
+        /**
+         * @param count the number of plants taken.
+         * @return this snapshot, or a copy holding only
+         * the first given number of plants.
+         */
+        private ChunkSnapshot trim(int count){
+            if(count == positions.length)
+                return this;
+
+            ChunkSnapshot trimmed = new ChunkSnapshot(chunkPos, elapsedTicks, seed, count);
+            System.arraycopy(positions, 0, trimmed.positions, 0, count);
+            System.arraycopy(baseChances, 0, trimmed.baseChances, 0, count);
+            System.arraycopy(mineralContents, 0, trimmed.mineralContents, 0, count);
+            System.arraycopy(enhancements, 0, trimmed.enhancements, 0, count);
+            System.arraycopy(lightLevels, 0, trimmed.lightLevels, 0, count);
+            return trimmed;
+        }
+
+        /**
+         * Phase one, off the server thread: decides how many times
+         * each plant grows. Only reads and writes this snapshot.
+         *
+         * @param randomTickSpeed the random tick speed of the world.
+         * @param lightMultipliers the growth multiplier of each light level.
+         */
+        private void decide(int randomTickSpeed, double[] lightMultipliers){
+            SplittableRandom random = new SplittableRandom(seed);
+
+            for(int i = 0; i < positions.length; i++){
+                double chance = BlockPlant.applyEnhancerModifier(mineralContents[i] / 100D, enhancements[i] / 100D)
+                        * baseChances[i] * lightMultipliers[lightLevels[i] & (LIGHT_LEVELS - 1)];
+                double expected = ScheduledGrowth.getChancePerTick(randomTickSpeed, chance) * elapsedTicks;
+
+                //Rounded up at random, so the expected growth is exact.
+                double whole = Math.floor(expected);
+                if(random.nextDouble() < expected - whole)
+                    whole++;
+
+                growths[i] = (int) Math.min(whole, Integer.MAX_VALUE);
+            }
+        }
+
+        /**
+         * Phase two, on the server thread: applies the decided
+         * growth to every plant still in the world.
+         *
+         * @param world the world the chunk is in.
+         */
+        private void apply(ServerWorld world){
+            if(world.getChunkProvider().getChunkNow(chunkPos.x, chunkPos.z) == null)
+                return;
+
+            BlockPos.Mutable pos = new BlockPos.Mutable();
+            for(int i = 0; i < positions.length; i++){
+                if(growths[i] <= 0)
+                    continue;
+
+                MinecraftUtil.unpackChunkRelative(positions[i], chunkPos, pos);
+                BlockState state = world.getBlockState(pos);
+                if(!(state.getBlock() instanceof BlockPlant))
+                    continue;
+
+                if(GrowthScheduler.isEnabled(world))
+                    GrowthScheduler.enqueue(world, pos, growths[i]);
+                else ((BlockPlant<?>) state.getBlock()).applyPlantGrowths(world, state, pos.toImmutable(), growths[i], true);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.ResynthMod;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Server side state kept per world by the plant growth systems (e.g. the
+ * {@link GrowthScheduler} queues), created on first use and dropped when
+ * the world is unloaded.
+ *
+ * <p/>Optionally, a listener can be given the state of each world at the
+ * end of every world tick, and when a chunk in the world is unloaded -
+ * so the owners of the state need no event hooks of their own.
+ *
+ * <p/>The state itself is only ever accessed from the server thread.
+ *
+ * @param <T> the type of the state kept per world.
+ */
+final class PerWorld<T> {
+
+    /**
+     * Every created instance, for the hooks.
+     */
+    private static final List<PerWorld<?>> INSTANCES = new CopyOnWriteArrayList<>();
+
+    /**
+     * The state of each world, by world.
+     */
+    private final Map<IWorld, T> states = new IdentityHashMap<>();
+
+    /**
+     * Creates the state of a world on first use.
+     */
+    private final Supplier<T> factory;
+
+    /**
+     * Given the world &amp; its state at the end of every
+     * world tick, if the world has state. May be {@code null}.
+     */
+    private BiConsumer<ServerWorld, T> tickListener;
+
+    /**
+     * Given the state of a world &amp; the position of an unloaded
+     * chunk, if the world has state. May be {@code null}.
+     */
+    private ObjLongConsumer<T> chunkUnloadListener;
+
+    /**
+     * @param factory creates the state of a world on first use.
+     */
+    PerWorld(Supplier<T> factory){
+        this.factory = factory;
+        INSTANCES.add(this);
+    }
+
+    /**
+     * @param listener given the world &amp; its state at the
+     *                 end of every world tick, if the world has state.
+     * @return {@code this}.
+     */
+    PerWorld<T> onTick(BiConsumer<ServerWorld, T> listener){
+        this.tickListener = listener;
+        return this;
+    }
+
+    /**
+     * @param listener given the state of a world &amp; the position
+     *                 ({@link net.minecraft.util.math.ChunkPos#asLong()})
+     *                 of each chunk unloaded in the world, if the world
+     *                 has state.
+     * @return {@code this}.
+     */
+    PerWorld<T> onChunkUnload(ObjLongConsumer<T> listener){
+        this.chunkUnloadListener = listener;
+        return this;
+    }
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * @param world the world.
+     * @return the state of the world, created if the world has none.
+     */
+    T get(IWorld world){
+        return states.computeIfAbsent(world, w -> factory.get());
+    }
+
+    /**
+     * @param world the world.
+     * @return the state of the world, or {@code null} if it has none.
+     */
+    @Nullable
+    T getIfPresent(IWorld world){
+        return states.get(world);
+    }
+
+    /**
+     * Replaces the state of a world.
+     *
+     * @param world the world.
+     * @param state the new state of the world.
+     */
+    void put(IWorld world, T state){
+        states.put(world, state);
+    }
+
+    // *****
+    // Hooks
+    // *****
+
+    /**
+     * Passes world ticks &amp; chunk unloads on to the listeners, and
+     * drops the state of a world when it is unloaded.
+     */
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        @SubscribeEvent
+        public static void onWorldTick(TickEvent.WorldTickEvent event) {
+            if(event.phase != TickEvent.Phase.END || event.side != LogicalSide.SERVER)
+                return;
+
+            for(PerWorld<?> instance : INSTANCES)
+                tick(instance, (ServerWorld) event.world);
+        }
+
+        @SubscribeEvent
+        public static void onChunkUnload(ChunkEvent.Unload event) {
+            if(event.getWorld() == null || event.getWorld().isRemote())
+                return;
+
+            long chunk = event.getChunk().getPos().asLong();
+            for(PerWorld<?> instance : INSTANCES)
+                unloadChunk(instance, event.getWorld(), chunk);
+        }
+
+        @SubscribeEvent
+        public static void onWorldUnload(WorldEvent.Unload event) {
+            if(event.getWorld().isRemote())
+                return;
+
+            for(PerWorld<?> instance : INSTANCES)
+                instance.states.remove(event.getWorld());
+        }
+
+        /**
+         * @param instance the instance to tick the state of.
+         * @param world the ticked world.
+         * @param <T> the type of the state.
+         */
+        private static <T> void tick(PerWorld<T> instance, ServerWorld world){
+            T state;
+            if(instance.tickListener != null && (state = instance.getIfPresent(world)) != null)
+                instance.tickListener.accept(world, state);
+        }
+
+        /**
+         * @param instance the instance to notify.
+         * @param world the world the chunk was in.
+         * @param chunk the position of the unloaded chunk.
+         * @param <T> the type of the state.
+         */
+        private static <T> void unloadChunk(PerWorld<T> instance, IWorld world, long chunk){
+            T state;
+            if(instance.chunkUnloadListener != null && (state = instance.getIfPresent(world)) != null)
+                instance.chunkUnloadListener.accept(state, chunk);
+        }
+    }
+}
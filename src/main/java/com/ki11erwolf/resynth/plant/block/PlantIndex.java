@@ -0,0 +1,445 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import com.ki11erwolf.resynth.util.MathUtil;
+import com.ki11erwolf.resynth.util.MinecraftUtil;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An optional, per chunk, structure-of-arrays index of every plant, which
+ * drives plant growth with a tight loop over the index instead of random ticks.
+ *
+ * <p/>Each chunk holds parallel arrays of the packed position, plant id
+ * (index of the plant block in {@link #PLANTS}), growth stage and last
+ * computed chance of growth of each plant in it. Plants are added when
+ * placed (or when first randomly ticked, for existing plants), removed
+ * when broken, and their stage is updated as they grow. Chunks are dropped
+ * when unloaded, and their plants added again as they are randomly ticked.
+ *
+ * <p/>Every tick, instead of rolling every plant, the loop jumps straight
+ * to the next candidate plant by sampling a geometric distribution, using
+ * the highest cached chance in the chunk as the chance of every plant.
+ * Each candidate then has its actual chance of growth computed, and is
+ * grown with the probability of its actual chance over the highest chance.
+ * This gives each plant the same chance of growth per tick as random ticks,
+ * while only looking at the plants likely to grow. Fully grown plants are
+ * skipped without any world lookups when auto-harvesting is disabled.
+ *
+ * <p/>When a candidates actual chance is above the highest cached chance
+ * (e.g. after being fertilized), the highest chance is raised at once, so
+ * the rest of the chunk is sampled with the new bound from then on.
+ *
+ * <p/>A chunk whose plants all had no chance of growth when last computed
+ * (e.g. in darkness) is never sampled, so every {@link #BOUND_REFRESH_TICKS}
+ * ticks the actual chance of each of its plants is computed again.
+ *
+ * <p/>Only ever accessed from the server thread.
+ */
+final class PlantIndex {
+
+    /**
+     * Reference to the general config settings - for enabling the index.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * Value returned by the maps for absent positions and plants.
+     */
+    private static final int ABSENT = -1;
+
+    /**
+     * The number of ticks between recomputing the highest cached
+     * chance of growth in each chunk, and rechecking the actual
+     * chances of chunks where it is zero.
+     */
+    private static final int BOUND_REFRESH_TICKS = 256;
+
+    /**
+     * Every plant block with an id, by id.
+     */
+    private static final List<BlockPlant<?>> PLANTS = new ArrayList<>();
+
+    /**
+     * The id of every plant block, by plant block.
+     */
+    private static final Object2IntOpenHashMap<BlockPlant<?>> PLANT_IDS = new Object2IntOpenHashMap<>();
+
+    static {
+        PLANT_IDS.defaultReturnValue(ABSENT);
+    }
+
+    /**
+     * Every indexed chunk, by world, then by chunk position.
+     */
+    private static final PerWorld<Long2ObjectOpenHashMap<ChunkPlants>> INDEX
+            = new PerWorld<Long2ObjectOpenHashMap<ChunkPlants>>(Long2ObjectOpenHashMap::new)
+            .onTick(PlantIndex::tick).onChunkUnload((chunks, chunk) -> chunks.remove(chunk));
+
+    /**
+     * Reused by {@link #tick} to hold the indexed chunks of
+     * the ticked world, rather than copying them every tick.
+     */
+    private static ChunkPlants[] tickedChunks = new ChunkPlants[16];
+
+    //Static class.
+    private PlantIndex(){}
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * @param world the world the plant is in.
+     * @return {@code true} if plants in the given world
+     * are grown by the index.
+     */
+    static boolean isEnabled(World world){
+        return GrowthMode.of(world) == GrowthMode.INDEXED;
+    }
+
+    /**
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return {@code true} if the plant at the given position is indexed.
+     */
+    static boolean contains(World world, BlockPos pos){
+        ChunkPlants plants = getChunk(world, pos, false);
+        return plants != null && plants.indices.get(pack(pos)) != ABSENT;
+    }
+
+    /**
+     * Adds, or updates, a plant in the index.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param plant the plant block.
+     * @param stage the plants growth stage.
+     * @param chance the plants chance of growth (0-100).
+     */
+    static void add(World world, BlockPos pos, BlockPlant<?> plant, int stage, double chance){
+        int plantId = PLANT_IDS.getInt(plant);
+        if(plantId == ABSENT){
+            plantId = PLANTS.size();
+            PLANTS.add(plant);
+            PLANT_IDS.put(plant, plantId);
+        }
+
+        //noinspection ConstantConditions
+        getChunk(world, pos, true).add(pack(pos), plantId, stage, (float) chance);
+    }
+
+    /**
+     * Removes a plant from the index, if indexed.
+     *
+     * @param world the world the plant was in.
+     * @param pos the position of the plant in the world.
+     */
+    static void remove(World world, BlockPos pos){
+        ChunkPlants plants = getChunk(world, pos, false);
+        if(plants != null)
+            plants.remove(pack(pos));
+    }
+
+    /**
+     * Updates the growth stage of a plant, if indexed.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param stage the plants new growth stage.
+     */
+    static void updateStage(World world, BlockPos pos, int stage){
+        ChunkPlants plants = getChunk(world, pos, false);
+        if(plants == null)
+            return;
+
+        int index = plants.indices.get(pack(pos));
+        if(index != ABSENT)
+            plants.stages[index] = (byte) stage;
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * @param world the world.
+     * @param pos the block position.
+     * @param create {@code true} to create the chunk if not indexed.
+     * @return the index of the chunk the position is in, or {@code null}
+     * if not indexed and not created.
+     */
+    private static ChunkPlants getChunk(World world, BlockPos pos, boolean create){
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        if(!create){
+            Long2ObjectOpenHashMap<ChunkPlants> chunks = INDEX.getIfPresent(world);
+            return chunks == null ? null : chunks.get(chunk);
+        }
+
+        return INDEX.get(world).computeIfAbsent(chunk, c -> new ChunkPlants(new ChunkPos(pos)));
+    }
+
+    /**
+     * Grows the indexed plants of a world for a single tick.
+     * Called at the end of every world tick.
+     *
+     * @param world the world.
+     * @param chunks the indexed chunks of the world.
+     */
+    private static void tick(World world, Long2ObjectOpenHashMap<ChunkPlants> chunks){
+        if(chunks.isEmpty() || !isEnabled(world))
+            return;
+
+        boolean refreshBounds = world.getGameTime() % BOUND_REFRESH_TICKS == 0;
+        boolean autoHarvest = GENERAL_CONFIG.isHopperAutoFarmingEnabled();
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+
+        //Copied, as growing plants can add or remove other plants.
+        int count = 0;
+        if(tickedChunks.length < chunks.size())
+            tickedChunks = new ChunkPlants[Math.max(chunks.size(), tickedChunks.length * 2)];
+        for(ChunkPlants plants : chunks.values())
+            tickedChunks[count++] = plants;
+
+        for(int chunk = 0; chunk < count; chunk++){
+            ChunkPlants plants = tickedChunks[chunk];
+            tickedChunks[chunk] = null;
+
+            if(refreshBounds){
+                plants.refreshMaxChance();
+
+                if(plants.maxChance <= 0)
+                    recheck(world, plants, pos);
+            }
+
+            double bound = ScheduledGrowth.getChancePerTick(world, plants.maxChance);
+            if(bound <= 0)
+                continue;
+
+            for(int i = nextCandidate(world, bound) - 1; i < plants.size; i += nextCandidate(world, bound)){
+                BlockPlant<?> plant = PLANTS.get(plants.plantIds[i]);
+
+                //Nothing to do for fully grown plants without auto-harvesting.
+                if(!autoHarvest && plants.stages[i] >= plant.getMaxGrowthStage())
+                    continue;
+
+                plants.unpack(plants.positions[i], pos);
+                if(!world.isBlockLoaded(pos))
+                    continue;
+
+                BlockState state = world.getBlockState(pos);
+                if(state.getBlock() != plant){
+                    plants.remove(plants.positions[i]);
+                    continue;
+                }
+
+                double chance = plant.calculateChanceOfGrowth(world, state, pos);
+                double chancePerTick = ScheduledGrowth.getChancePerTick(world, chance);
+                plants.chances[i] = (float) chance;
+                plants.stages[i] = (byte) plant.getGrowthStage(state);
+
+                boolean grows = world.rand.nextDouble() * bound < chancePerTick;
+
+                //The chance rose above the bound (e.g. fertilized): raise the
+                //bound at once, so the rest of the chunk isn't undersampled.
+                if(chance > plants.maxChance){
+                    plants.maxChance = (float) chance;
+                    bound = chancePerTick;
+                }
+
+                if(grows)
+                    plant.handlePlantGrowth(world, state, pos.toImmutable(), 1);
+            }
+        }
+    }
+
+    /**
+     * Computes the actual chance of growth of every plant in a chunk
+     * again, so a chunk whose plants could not grow when last looked
+     * at is sampled again once they can.
+     *
+     * @param world the world the chunk is in.
+     * @param plants the plants in the chunk.
+     * @param pos a mutable position to reuse.
+     */
+    private static void recheck(World world, ChunkPlants plants, BlockPos.Mutable pos){
+        for(int i = plants.size - 1; i >= 0; i--){
+            BlockPlant<?> plant = PLANTS.get(plants.plantIds[i]);
+
+            plants.unpack(plants.positions[i], pos);
+            if(!world.isBlockLoaded(pos))
+                continue;
+
+            BlockState state = world.getBlockState(pos);
+            if(state.getBlock() != plant){
+                plants.remove(plants.positions[i]);
+                continue;
+            }
+
+            plants.chances[i] = (float) plant.calculateChanceOfGrowth(world, state, pos);
+            plants.stages[i] = (byte) plant.getGrowthStage(state);
+            plants.maxChance = Math.max(plants.maxChance, plants.chances[i]);
+        }
+    }
+
+    /**
+     * @param world the world to draw from the random of.
+     * @param chance the chance (0.0-1.0) of each plant being a candidate.
+     * @return the number of plants to move forward by to
+     * reach the next candidate plant, at least 1.
+     */
+    private static int nextCandidate(World world, double chance){
+        return MathUtil.sampleGeometric(world.rand, chance, Integer.MAX_VALUE / 2);
+    }
+
+    /**
+     * @param pos the block position.
+     * @return the chunk relative position packed into a {@code short}.
+     */
+    private static short pack(BlockPos pos){
+        return MinecraftUtil.packChunkRelative(pos);
+    }
+
+    /**
+     * The plants in a single chunk, as parallel arrays.
+     */
+    private static final class ChunkPlants {
+
+        /**
+         * The position of the chunk.
+         */
+        private final ChunkPos chunkPos;
+
+        /**
+         * Packed position to index in the arrays.
+         */
+        private final Short2IntOpenHashMap indices = new Short2IntOpenHashMap();
+
+        /**
+         * The packed position of each plant.
+         */
+        private short[] positions = new short[16];
+
+        /**
+         * The plant id of each plant.
+         */
+        private int[] plantIds = new int[16];
+
+        /**
+         * The growth stage of each plant.
+         */
+        private byte[] stages = new byte[16];
+
+        /**
+         * The last computed chance of growth (0-100) of each plant.
+         */
+        private float[] chances = new float[16];
+
+        /**
+         * The number of plants.
+         */
+        private int size = 0;
+
+        /**
+         * The highest chance of growth in {@link #chances} - may
+         * be higher than the actual highest, until refreshed.
+         */
+        private float maxChance = 0;
+
+        /**
+         * @param chunkPos the position of the chunk.
+         */
+        private ChunkPlants(ChunkPos chunkPos){
+            this.chunkPos = chunkPos;
+            indices.defaultReturnValue(ABSENT);
+        }
+
+        /**
+         * Adds, or updates, a plant.
+         */
+        private void add(short packed, int plantId, int stage, float chance){
+            int index = indices.get(packed);
+
+            if(index == ABSENT){
+                if(size == positions.length){
+                    positions = Arrays.copyOf(positions, size * 2);
+                    plantIds = Arrays.copyOf(plantIds, size * 2);
+                    stages = Arrays.copyOf(stages, size * 2);
+                    chances = Arrays.copyOf(chances, size * 2);
+                }
+
+                index = size++;
+                positions[index] = packed;
+                indices.put(packed, index);
+            }
+
+            plantIds[index] = plantId;
+            stages[index] = (byte) stage;
+            chances[index] = chance;
+            maxChance = Math.max(maxChance, chance);
+        }
+
+        /**
+         * Removes a plant, if present, by moving the
+         * last plant into its place.
+         */
+        private void remove(short packed){
+            int index = indices.remove(packed);
+            if(index == ABSENT)
+                return;
+
+            int last = --size;
+            if(index != last){
+                positions[index] = positions[last];
+                plantIds[index] = plantIds[last];
+                stages[index] = stages[last];
+                chances[index] = chances[last];
+                indices.put(positions[index], index);
+            }
+        }
+
+        /**
+         * Recomputes {@link #maxChance} from the cached chances.
+         */
+        private void refreshMaxChance(){
+            float max = 0;
+            for(int i = 0; i < size; i++)
+                max = Math.max(max, chances[i]);
+
+            maxChance = max;
+        }
+
+        /**
+         * @param packed the packed position.
+         * @param pos the mutable position to set to the unpacked position.
+         */
+        private void unpack(short packed, BlockPos.Mutable pos){
+            MinecraftUtil.unpackChunkRelative(packed, chunkPos, pos);
+        }
+    }
+}
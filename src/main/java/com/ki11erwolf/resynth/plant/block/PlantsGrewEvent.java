@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongLists;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.eventbus.api.Event;
+
+/**
+ * Fired on the Forge event bus, at most once per world per tick, with every
+ * Resynth plant that grew in the world that tick - in place of a pair of
+ * {@link net.minecraftforge.event.world.BlockEvent.CropGrowEvent}s per plant.
+ *
+ * <p/>Only fired when crop grow events are configured to be batched in the
+ * {@link com.ki11erwolf.resynth.config.categories.GeneralConfig}. Fired on
+ * the server thread, after the plants have grown. Not cancelable.
+ */
+public class PlantsGrewEvent extends Event {
+
+    /**
+     * The world the plants are in.
+     */
+    private final World world;
+
+    /**
+     * The packed positions of the plants that grew.
+     */
+    private final LongList positions;
+
+    /**
+     * @param world the world the plants are in.
+     * @param positions the positions of the plants that grew,
+     *                  packed with {@link BlockPos#toLong()}.
+     */
+    public PlantsGrewEvent(World world, LongList positions){
+        this.world = world;
+        this.positions = LongLists.unmodifiable(positions);
+    }
+
+    /**
+     * @return the world the plants are in.
+     */
+    public World getWorld(){
+        return world;
+    }
+
+    /**
+     * @return the positions of every plant that grew, packed with
+     * {@link BlockPos#toLong()} - unpack with {@link BlockPos#fromLong(long)}.
+     * A plant that grew more than once is listed more than once.
+     */
+    public LongList getPositions(){
+        return positions;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import com.ki11erwolf.resynth.util.MathUtil;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.World;
+
+/**
+ * Scheduled tick based plant growth - an alternative to random tick
+ * based growth, enabled per dimension in the {@link GeneralConfig}.
+ *
+ * <p/>With random ticks, most ticks on a plant end in no growth after
+ * the growth chance has been calculated. Instead, each plant samples the
+ * number of game ticks until its next successful growth from a geometric
+ * distribution - using the same per tick chance of growth that random
+ * ticks give it (its growth chance &amp; the random tick speed) - and
+ * schedules a block tick for exactly then. The expected growth rate is
+ * the same, while the plant is only ticked when it actually grows.
+ *
+ * <p/>Plants that cannot currently grow at all (e.g. in darkness) are
+ * rechecked every {@link #RECHECK_TICKS} ticks instead. Such recheck
+ * ticks are remembered in memory so they don't grow the plant; a recheck
+ * still pending when the server stops will grow the plant once.
+ *
+ * <p/>Only ever accessed from the server thread.
+ */
+final class ScheduledGrowth {
+
+    /**
+     * The number of blocks in a chunk section, each of which has
+     * an equal chance of being picked for a random tick.
+     */
+    private static final double SECTION_VOLUME = 16 * 16 * 16;
+
+    /**
+     * The number of ticks before a plant that cannot grow is checked again.
+     */
+    private static final int RECHECK_TICKS = 1200;
+
+    /**
+     * The longest delay, in ticks, that will be scheduled. Growth sampled
+     * to happen later than this is treated as a recheck.
+     */
+    private static final int MAX_DELAY = Integer.MAX_VALUE / 2;
+
+    /**
+     * The positions, by world, of plants whose pending tick is a recheck.
+     */
+    private static final PerWorld<LongOpenHashSet> RECHECKS = new PerWorld<>(LongOpenHashSet::new);
+
+    //Static class.
+    private ScheduledGrowth(){}
+
+    /**
+     * @param world the world the plant is in.
+     * @return {@code true} if plants in the given world
+     * grow on scheduled ticks instead of random ticks.
+     */
+    static boolean isEnabled(World world){
+        return GrowthMode.of(world) == GrowthMode.SCHEDULED;
+    }
+
+    /**
+     * Schedules the next growth tick of a plant, based on
+     * its current chance of growth.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @param plant the plant block.
+     * @param chanceOfGrowth the chance (0-100) the plant
+     *                       grows when randomly ticked.
+     */
+    static void schedule(World world, BlockPos pos, BlockPlant<?> plant, double chanceOfGrowth){
+        double chancePerTick = getChancePerTick(world, chanceOfGrowth);
+        int delay = MathUtil.sampleGeometric(world.rand, chancePerTick, MAX_DELAY);
+        LongOpenHashSet rechecks = RECHECKS.get(world);
+
+        if(delay >= MAX_DELAY){
+            delay = RECHECK_TICKS;
+            rechecks.add(pos.toLong());
+        } else rechecks.remove(pos.toLong());
+
+        world.getPendingBlockTicks().scheduleTick(pos, plant, delay);
+    }
+
+    /**
+     * Consumes the scheduled tick of a plant.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return {@code true} if the tick is a successful growth,
+     * {@code false} if it was only a recheck.
+     */
+    static boolean consume(World world, BlockPos pos){
+        LongOpenHashSet rechecks = RECHECKS.getIfPresent(world);
+        return rechecks == null || !rechecks.remove(pos.toLong());
+    }
+
+    /**
+     * Forgets any pending recheck of a plant that was removed, so the
+     * recheck neither lingers for the life of the world nor stops the
+     * first growth of a plant later placed at the same position.
+     *
+     * @param world the world the plant was in.
+     * @param pos the position of the plant in the world.
+     */
+    static void forget(World world, BlockPos pos){
+        LongOpenHashSet rechecks = RECHECKS.getIfPresent(world);
+        if(rechecks != null)
+            rechecks.remove(pos.toLong());
+    }
+
+    /**
+     * Works out the chance a plant grows within a single game tick when
+     * random ticks are used: the chance it is picked for a random tick
+     * at least once, and grows, in one of the random tick speed draws
+     * made in its chunk section. Also used by catch-up growth
+     * ({@link BlockPlant#catchUpGrowth}).
+     *
+     * @param world the world the plant is in - for the random tick speed.
+     * @param chanceOfGrowth the chance (0-100) the plant grows when
+     *                       randomly ticked.
+     * @return the chance (0.0-1.0) the plant grows within a single tick.
+     */
+    static double getChancePerTick(World world, double chanceOfGrowth){
+        return getChancePerTick(world.getGameRules().getInt(GameRules.RANDOM_TICK_SPEED), chanceOfGrowth);
+    }
+
+    /**
+     * Works out the chance a plant grows within a single game tick when
+     * random ticks are used, as {@link #getChancePerTick(World, double)}
+     * does, for the given random tick speed.
+     *
+     * @param randomTickSpeed the random tick speed of the plants world.
+     * @param chanceOfGrowth the chance (0-100) the plant grows when
+     *                       randomly ticked.
+     * @return the chance (0.0-1.0) the plant grows within a single tick.
+     */
+    static double getChancePerTick(int randomTickSpeed, double chanceOfGrowth){
+        double chancePerDraw = Math.min(chanceOfGrowth / 100D, 1D) / SECTION_VOLUME;
+
+        if(randomTickSpeed <= 0 || chancePerDraw <= 0)
+            return 0;
+
+        return -Math.expm1(randomTickSpeed * Math.log1p(-chancePerDraw));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.server.ServerWorld;
+
+/**
+ * Coarse, aggregated growth for plants in loaded chunks that have no
+ * players nearby - such as chunks kept loaded by chunk loaders - enabled
+ * in the {@link GeneralConfig}.
+ *
+ * <p/>Plants within the configured radius of a player are ticked as normal.
+ * Plants in unattended chunks skip all work when randomly ticked, and their
+ * chunk instead accumulates the time it spent unattended. Every configured
+ * number of seconds, each unattended chunk is given the growth it would be
+ * expected to have had over that time in a single batch, through the same
+ * catch-up growth used for reloaded chunks ({@link ChunkGrowthRecord}) - so
+ * the long-run yield is the same.
+ *
+ * <p/>A chunk that becomes attended has the time it accumulated since the
+ * last batch applied when one of its plants is next randomly ticked. Time
+ * accumulated since the last batch is lost if the chunk is unloaded before
+ * either.
+ *
+ * <p/>Only ever accessed from the server thread.
+ */
+final class UnattendedGrowth {
+
+    /**
+     * Reference to the general config settings - for the radius &amp; interval.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
+    /**
+     * The number of ticks a chunks attended status is cached for.
+     */
+    private static final int ATTENDANCE_CACHE_TICKS = 20;
+
+    /**
+     * The game time, by world, then by chunk, each unattended
+     * chunk last had its growth applied.
+     */
+    private static final PerWorld<Long2LongOpenHashMap> UNATTENDED
+            = new PerWorld<Long2LongOpenHashMap>(Long2LongOpenHashMap::new).onTick(UnattendedGrowth::applyBatch);
+
+    /**
+     * The cached attended status, by world, then by chunk.
+     */
+    private static final PerWorld<Long2BooleanOpenHashMap> ATTENDANCE
+            = new PerWorld<Long2BooleanOpenHashMap>(Long2BooleanOpenHashMap::new).onTick(UnattendedGrowth::expire);
+
+    //Static class.
+    private UnattendedGrowth(){}
+
+    // ***
+    // API
+    // ***
+
+    /**
+     * Called when a plant is randomly ticked. Defers the growth of
+     * the plant to the next batch if its chunk is unattended.
+     *
+     * @param world the world the plant is in.
+     * @param pos the position of the plant in the world.
+     * @return {@code true} if the plants chunk is unattended, and
+     * the plant should not be evaluated now.
+     */
+    static boolean defer(World world, BlockPos pos){
+        if(GrowthMode.of(world) != GrowthMode.UNATTENDED)
+            return false;
+
+        long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2BooleanOpenHashMap attendance = ATTENDANCE.get(world);
+
+        if(!attendance.containsKey(chunk))
+            attendance.put(chunk, isAttended(world, chunk));
+
+        if(attendance.get(chunk)){
+            settle(world, chunk);
+            return false;
+        }
+
+        UNATTENDED.get(world).putIfAbsent(chunk, world.getGameTime());
+        return true;
+    }
+
+    // **************
+    // Implementation
+    // **************
+
+    /**
+     * @param world the world the chunk is in.
+     * @param chunk the chunk position.
+     * @return {@code true} if any player is within the configured
+     * (horizontal) radius of the center of the chunk.
+     */
+    private static boolean isAttended(World world, long chunk){
+        double radius = GENERAL_CONFIG.getUnattendedGrowthRadius();
+        double x = (ChunkPos.getX(chunk) << 4) + 8, z = (ChunkPos.getZ(chunk) << 4) + 8;
+
+        for(PlayerEntity player : world.getPlayers()){
+            double dx = player.getPosX() - x, dz = player.getPosZ() - z;
+            if(!player.isSpectator() && dx * dx + dz * dz <= radius * radius)
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Applies the growth a chunk accumulated while unattended and forgets
+     * it, if it was unattended - so a chunk that becomes attended between
+     * batches is not grown by both random ticks and the next batch.
+     *
+     * @param world the world the chunk is in.
+     * @param chunk the chunk position.
+     */
+    private static void settle(World world, long chunk){
+        Long2LongOpenHashMap unattended = UNATTENDED.getIfPresent(world);
+        if(unattended == null || !unattended.containsKey(chunk))
+            return;
+
+        long since = unattended.remove(chunk);
+        ChunkGrowthRecord.catchUpChunk(
+                world, world.getChunk(ChunkPos.getX(chunk), ChunkPos.getZ(chunk)), world.getGameTime() - since
+        );
+    }
+
+    /**
+     * Expires the cached attended statuses of a world every {@link
+     * #ATTENDANCE_CACHE_TICKS} ticks. Called at the end of every world tick.
+     *
+     * @param world the world.
+     * @param attendance the cached attended statuses of the world.
+     */
+    private static void expire(ServerWorld world, Long2BooleanOpenHashMap attendance){
+        if(world.getGameTime() % ATTENDANCE_CACHE_TICKS == 0)
+            attendance.clear();
+    }
+
+    /**
+     * Applies the growth accumulated by every unattended chunk in the
+     * world, if the world tick falls on the configured interval. Chunks
+     * that are now attended or unloaded are forgotten. Called at the end
+     * of every world tick.
+     *
+     * @param world the world.
+     * @param unattended the unattended chunks of the world.
+     */
+    private static void applyBatch(ServerWorld world, Long2LongOpenHashMap unattended){
+        if(unattended.isEmpty() || world.getGameTime() % (GENERAL_CONFIG.getUnattendedGrowthInterval() * 20L) != 0)
+            return;
+
+        long now = world.getGameTime();
+
+        for(ObjectIterator<Long2LongMap.Entry> iterator = unattended.long2LongEntrySet().fastIterator();
+            iterator.hasNext();){
+            Long2LongMap.Entry entry = iterator.next();
+            long chunkPos = entry.getLongKey();
+            Chunk chunk = world.getChunkProvider().getChunkNow(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos));
+
+            if(chunk == null){
+                iterator.remove();
+                continue;
+            }
+
+            ChunkGrowthRecord.catchUpChunk(world, chunk, now - entry.getLongValue());
+
+            if(isAttended(world, chunkPos))
+                iterator.remove();
+            else entry.setValue(now);
+        }
+    }
+}
@@ -22,7 +22,6 @@ import com.ki11erwolf.resynth.plant.set.properties.AbstractBiochemicalProperties
 import com.ki11erwolf.resynth.util.MathUtil;
 import net.minecraft.entity.EntityType;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
 import net.minecraftforge.event.entity.player.PlayerDestroyItemEvent;
@@ -96,31 +95,23 @@ abstract class BiochemicalSet extends PlantSet<BlockBiochemicalPlant, EntityType
          */
         @SubscribeEvent
         public void onEntityKilled(LivingDeathEvent event){
-            //For each plant set
-            for(PlantSet<?, ?> set : PlantSetAPI.getSetsByType(PlantSetAPI.SetType.BIOCHEMICAL)){
-                ResourceLocation deadEntity = event.getEntity().getType().getRegistryName();
-                BiochemicalSet plantSet = (BiochemicalSet) set;
+            if(event.getEntity().getEntityWorld().isRemote)
+                return;
 
-                if(set.isBroken() || set.getSeedSources(EntityType[].class).length == 0)
+            //For each plant set with the mob as a seed source
+            for(PlantSet<?, ?> set : PlantSetAPI.getSetsBySeedSource(event.getEntity().getType())){
+                if(!(set instanceof BiochemicalSet))
                     continue;
 
-                //and each seed type
-                for(EntityType<?> entity : plantSet.getSeedSources(EntityType[].class)){
-                    ResourceLocation loopedEntity = entity.getRegistryName();
-
-                    //Do a lot of checks
-                    if(loopedEntity == null) continue;
-                    if(!loopedEntity.equals(deadEntity)) continue;
-                    if(event.getEntity().getEntityWorld().isRemote) continue;
-                    if(MathUtil.Probability.newPercentageProbability(plantSet.setProperties.seedSpawnChanceFromMob())
-                            .randomResult().isFalse())
-                        continue;
-
-                    //and spawn seeds if lucky
-                    dropSeeds(set.getSeedsItem(), event.getEntity().getEntityWorld(),
-                            new BlockPos(event.getEntity().getPositionVec())
-                    );
-                }
+                BiochemicalSet plantSet = (BiochemicalSet) set;
+                if(!MathUtil.rollPercent(event.getEntity().getEntityWorld().rand,
+                        plantSet.setProperties.seedSpawnChanceFromMob()))
+                    continue;
+
+                //Spawn seeds if lucky
+                dropSeeds(plantSet.getSeedsItem(), event.getEntity().getEntityWorld(),
+                        new BlockPos(event.getEntity().getPositionVec())
+                );
             }
         }
 
@@ -135,24 +126,19 @@ abstract class BiochemicalSet extends PlantSet<BlockBiochemicalPlant, EntityType
             //noinspection ConstantConditions //Apparently not... it can still return null
             if(event.getOriginal() == null) return;
 
-            //For each plant set
-            for(PlantSet<?, ?> set : PlantSetAPI.getSetsByType(PlantSetAPI.SetType.BIOCHEMICAL)) {
-                if(set.isBroken()) continue;
+            PlantSet<?, ?> set = PlantSetAPI.getSetByProduce(event.getOriginal().getItem());
+            if(!(set instanceof BiochemicalSet) || set.isBroken() || event.getEntity().getEntityWorld().isRemote)
+                return;
 
-                BiochemicalSet plantSet = (BiochemicalSet) set;
+            BiochemicalSet plantSet = (BiochemicalSet) set;
 
-                if(event.getOriginal().getItem() == plantSet.getProduceItem().asItem()){
-                    if(MathUtil.Probability.newPercentageProbability(plantSet.setProperties.seedSpawnChanceFromBulb())
-                            .randomResult().isTrue()) {
-                        if (!event.getEntity().getEntityWorld().isRemote) {
-                            //Spawn seeds if lucky
-                            dropSeeds(
-                                    plantSet.getSeedsItem(), event.getEntity().getEntityWorld(),
-                                    new BlockPos(event.getEntity().getPositionVec())
-                            );
-                        }
-                    }
-                }
+            if(MathUtil.rollPercent(event.getEntity().getEntityWorld().rand,
+                    plantSet.setProperties.seedSpawnChanceFromBulb())) {
+                //Spawn seeds if lucky
+                dropSeeds(
+                        plantSet.getSeedsItem(), event.getEntity().getEntityWorld(),
+                        new BlockPos(event.getEntity().getPositionVec())
+                );
             }
         }
 
@@ -101,12 +101,12 @@ abstract class CrystallineSet extends PlantSet<BlockCrystallinePlant, Block> {
             if(event.getPlayer() == null || event.getPlayer().isCreative())
                 return;
 
-            Block block = event.getWorld().getBlockState(event.getPos()).getBlock();
+            Block block = event.getState().getBlock();
             IWorld world = event.getWorld();
 
             //Sets
-            for(PlantSet<?, ?> set : PlantSetAPI.getSetsByType(PlantSetAPI.SetType.CRYSTALLINE)){
-                if(set.isBroken() || set.getSeedSources(Block[].class).length == 0)
+            for(PlantSet<?, ?> set : PlantSetAPI.getSetsBySeedSource(block)){
+                if(!(set instanceof CrystallineSet))
                     continue;
 
                 CrystallineSet crystallineSet = (CrystallineSet) set;
@@ -116,7 +116,7 @@ abstract class CrystallineSet extends PlantSet<BlockCrystallinePlant, Block> {
                     continue;
 
                 //Spawn
-                if(MathUtil.Probability.newPercentageProbability(spawnChance).randomResult().isTrue()){
+                if(MathUtil.rollPercent(world.getRandom(), spawnChance)){
                     dropSeeds(crystallineSet.seedsItem, (World) world, event.getPos());
                     event.setCanceled(true);
                     world.setBlockState(event.getPos(), Blocks.AIR.getDefaultState(), 2);
@@ -158,7 +158,7 @@ abstract class CrystallineSet extends PlantSet<BlockCrystallinePlant, Block> {
 
                 //Spawn
                 for(int j = 0; j < count; j++){
-                    if(MathUtil.Probability.newPercentageProbability(spawnChance).randomResult().isTrue()){
+                    if(MathUtil.rollPercent(world.rand, spawnChance)){
                         dropSeeds(set.getSeedsItem(), world, pos);
                     }
                 }
@@ -21,7 +21,6 @@ import com.ki11erwolf.resynth.plant.item.ItemSeeds;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractMetallicProperties;
 import com.ki11erwolf.resynth.util.MathUtil;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockState;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -99,33 +98,34 @@ abstract class MetallicSet extends PlantSet<BlockMetallicPlant, Block> {
         @SubscribeEvent
         public void onExplosion(ExplosionEvent.Detonate detonateEvent){
             World world = detonateEvent.getWorld();
+            if(world.isRemote)
+                return;
+
+            SeedDropBatch seedDrops = new SeedDropBatch(detonateEvent.getExplosion().getPosition());
 
             //For each block
             for(BlockPos pos : detonateEvent.getAffectedBlocks()){
-                BlockState block = world.getBlockState(pos);
+                Block block = world.getBlockState(pos).getBlock();
 
-                //For each set
-                for(PlantSet<?, ?> set : PlantSetAPI.getSetsByType(PlantSetAPI.SetType.METALLIC)) {
-                    if(set.isBroken() || set.getSeedSources(Block[].class).length == 0)
+                //Ore blocks
+                for(PlantSet<?, ?> set : PlantSetAPI.getSetsBySeedSource(block)) {
+                    if(!(set instanceof MetallicSet)
+                            || block != Block.getBlockFromItem(set.getSeedSources(Block[].class)[0].asItem()))
                         continue;
 
-                    //Chance of spawning item.
-                    float chance = 0.0F;
-                    if(block.getBlock() == Block.getBlockFromItem(set.getSeedSources(Block[].class)[0].asItem())) {
-                        chance = ((MetallicSet) set).properties.seedSpawnChanceFromOre();
-                    } else if (!(block.getBlock().getRegistryName() == null
-                            && set.getProduceItem().asItem().getRegistryName() == null)) {
-                        if(block.getBlock().getRegistryName().equals(set.getProduceItem().asItem().getRegistryName())) {
-                            chance = ((MetallicSet) set).properties.seedSpawnChanceFromOrganicOre();
-                        }
-                    }
-
-                    //Spawn item.
-                    if(MathUtil.Probability.newPercentageProbability(chance).randomResult().isTrue()) {
-                        dropSeeds(set.getSeedsItem(), world, pos);
-                    }
+                    if(MathUtil.rollPercent(world.rand, ((MetallicSet) set).properties.seedSpawnChanceFromOre()))
+                        seedDrops.add(set.getSeedsItem(), pos);
                 }
+
+                //Organic ore blocks
+                PlantSet<?, ?> producer = PlantSetAPI.getSetByProduce(block);
+                if(producer instanceof MetallicSet && !producer.isBroken()
+                        && MathUtil.rollPercent(world.rand, ((MetallicSet) producer).properties.seedSpawnChanceFromOrganicOre()))
+                    seedDrops.add(producer.getSeedsItem(), pos);
             }
+
+            //Spawn items.
+            seedDrops.drop(world);
         }
     }
 }
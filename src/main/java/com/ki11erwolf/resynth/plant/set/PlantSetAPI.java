@@ -19,6 +19,9 @@ import com.ki11erwolf.resynth.ResynthRecipes;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractPlantSetProperties;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractProduceProperties;
 import com.ki11erwolf.resynth.util.MathUtil;
+import net.minecraft.block.Block;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.IItemProvider;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -42,23 +45,73 @@ public class PlantSetAPI {
      * @param action the action to perform for each plant set.
      */
     public static void foreachSet(SetType setType, Function<PlantSet<?, ?>, Void> action){
-        PlantSetRegistry.streamPlantSets().filter(setType::matches).forEach(action::apply);
+        for(PlantSet<?, ?> set : getSetsByType(setType))
+            action.apply(set);
     }
 
     /**
-     * Obtains a list of plant sets specified by type.
+     * Obtains an array of plant sets specified by type.
      *
      * @param setType the type of plant sets to obtain.
-     * @return a modifiable list of the obtained plant sets.
+     * @return the shared array of the obtained plant sets.
+     * <b>Must not be modified.</b>
      */
     public static PlantSet<?, ?>[] getSetsByType(SetType setType){
-        return PlantSetRegistry.streamPlantSets().filter(setType::matches).toArray(PlantSet<?, ?>[]::new);
+        return PlantSetRegistry.getPlantSetsByType(Objects.requireNonNull(setType));
     }
 
     public static PlantSet<?, ?> getSetByName(String name) {
-        return PlantSetRegistry.streamPlantSets().filter(
-                (set) -> set.getSetName().equals(Objects.requireNonNull(name))
-        ) .findFirst().orElse(null);
+        return PlantSetRegistry.getPlantSetByName(Objects.requireNonNull(name));
+    }
+
+    /**
+     * Allows referring to plant sets by a compact number rather than
+     * by name, such as when sending plant sets over the network. Only
+     * meaningful when both sides have the same plant sets registered.
+     *
+     * @param name the unique name of the plant set.
+     * @return the position of the plant set in registration
+     * order, or {@code -1} if no such plant set exists.
+     */
+    public static int getSetIndex(String name) {
+        return PlantSetRegistry.getPlantSetIndex(Objects.requireNonNull(name));
+    }
+
+    /**
+     * @param index the position of the plant set in registration
+     * order, as given by {@link #getSetIndex(String)}.
+     * @return the plant set at the given position, or {@code null}
+     * if there is no plant set at the given position.
+     */
+    public static PlantSet<?, ?> getSetByIndex(int index) {
+        return PlantSetRegistry.getPlantSetByIndex(index);
+    }
+
+    /**
+     * @param produce the produce item or block.
+     * @return the plant set that grows the given produce,
+     * or {@code null} if no plant set grows it.
+     */
+    public static PlantSet<?, ?> getSetByProduce(IItemProvider produce) {
+        return PlantSetRegistry.getPlantSetByProduce(Objects.requireNonNull(produce).asItem());
+    }
+
+    /**
+     * @param source the block that is a seed source.
+     * @return the shared array of plant sets whose seeds can
+     * be obtained from the given block. <b>Must not be modified.</b>
+     */
+    public static PlantSet<?, ?>[] getSetsBySeedSource(Block source) {
+        return PlantSetRegistry.getPlantSetsBySeedSource(Objects.requireNonNull(source));
+    }
+
+    /**
+     * @param source the entity type that is a seed source.
+     * @return the shared array of plant sets whose seeds can be
+     * obtained from the given entity type. <b>Must not be modified.</b>
+     */
+    public static PlantSet<?, ?>[] getSetsBySeedSource(EntityType<?> source) {
+        return PlantSetRegistry.getPlantSetsBySeedSource(Objects.requireNonNull(source));
     }
 
     public static PlantSet<?, ?> getRandomSet() {
@@ -88,6 +141,16 @@ public class PlantSetAPI {
         );
     }
 
+    /**
+     * Makes the given plant set use its own (client) properties rather
+     * than any properties previously sent by a server.
+     *
+     * @param setName the name of the plant set.
+     */
+    public static void restorePlantSetProperties(String setName) {
+        PropertiesSynchronizer.INSTANCE.handlePropertiesRestoring(Objects.requireNonNull(setName));
+    }
+
     /**
      * Represents a plant set type.
      *
@@ -47,6 +47,11 @@ public class PlantSetFactory {
      */
     private static final Logger LOG = ResynthMod.getNewLogger();
 
+    /**
+     * Reference to the general config settings.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
     /**Private constructor.*/
     private PlantSetFactory(){}
 
@@ -310,7 +315,7 @@ public class PlantSetFactory {
         if(seedsRecipeCount > 0) {
             seedsRecipeCount = Math.min(seedsRecipeCount, 64);
 
-            if (ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).enableCraftingCrystallineSeeds()) {
+            if (GENERAL_CONFIG.enableCraftingCrystallineSeeds()) {
                 PlantSetRecipes.INSTANCE.addCrystallineSeedsRecipe(
                         plantSet, outputItemID, seedsRecipeCount
                 );
@@ -21,6 +21,7 @@ import com.ki11erwolf.resynth.ResynthPlants;
 import com.ki11erwolf.resynth.block.ResynthBlock;
 import com.ki11erwolf.resynth.integration.Hwyla;
 import net.minecraft.block.Block;
+import net.minecraft.entity.EntityType;
 import net.minecraft.item.Item;
 import net.minecraft.util.IItemProvider;
 import net.minecraft.util.ResourceLocation;
@@ -33,7 +34,11 @@ import net.minecraftforge.registries.IForgeRegistry;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -67,6 +72,7 @@ class PlantSetRegistry {
 
         LOG.debug("Queuing plant set for registration: " + set.getSetName());
         PLANT_SETS.add(set);
+        registrationIndexes = null;
     }
 
     /**
@@ -81,6 +87,199 @@ class PlantSetRegistry {
         return PLANT_SETS.stream();
     }
 
+    // *******
+    // Indexes
+    // *******
+
+    /**
+     * The name and type indexes of every registered plant set. Built lazily
+     * on first use and discarded if another plant set is registered.
+     */
+    private static volatile RegistrationIndexes registrationIndexes;
+
+    /**
+     * The produce and seed source indexes of every registered plant set.
+     * Built once the plant sets are finalized, as both produce items and
+     * seed sources are only known after the game registries are filled.
+     */
+    private static volatile FinalizedIndexes finalizedIndexes;
+
+    /**
+     * @param name the unique name of the plant set.
+     * @return the registered plant set with the given name,
+     * or {@code null} if no such plant set exists.
+     */
+    static PlantSet<?, ?> getPlantSetByName(String name) {
+        return getRegistrationIndexes().setsByName.get(name);
+    }
+
+    /**
+     * @param name the unique name of the plant set.
+     * @return the position of the plant set with the given name in
+     * registration order, or {@code -1} if no such plant set exists.
+     */
+    static int getPlantSetIndex(String name) {
+        return getRegistrationIndexes().indexByName.getOrDefault(name, -1);
+    }
+
+    /**
+     * @param index the position of the plant set in registration order.
+     * @return the plant set at the given position, or {@code null}
+     * if the position is out of range.
+     */
+    static PlantSet<?, ?> getPlantSetByIndex(int index) {
+        PlantSet<?, ?>[] sets = getRegistrationIndexes().setsByType.get(PlantSetAPI.SetType.ALL);
+        return index < 0 || index >= sets.length ? null : sets[index];
+    }
+
+    /**
+     * @param setType the type of plant sets to get.
+     * @return the shared array of registered plant sets of
+     * the given type. <b>Must not be modified.</b>
+     */
+    static PlantSet<?, ?>[] getPlantSetsByType(PlantSetAPI.SetType setType) {
+        return getRegistrationIndexes().setsByType.get(setType);
+    }
+
+    /**
+     * @param produce the produce item (or item form of the produce block).
+     * @return the registered plant set that has the given item as its
+     * produce, or {@code null} if no plant set has the given produce.
+     */
+    static PlantSet<?, ?> getPlantSetByProduce(Item produce) {
+        FinalizedIndexes indexes = finalizedIndexes;
+
+        if(indexes != null)
+            return indexes.setsByProduce.get(produce);
+
+        //Not yet finalized
+        for(PlantSet<?, ?> set : PLANT_SETS)
+            if(set.getProduceItem().asItem() == produce)
+                return set;
+
+        return null;
+    }
+
+    /**
+     * @param source the seed source block.
+     * @return the shared array of (non-broken) plant sets that have the given
+     * block as a seed source. Empty if there are none, or if the plant sets
+     * have not been finalized. <b>Must not be modified.</b>
+     */
+    static PlantSet<?, ?>[] getPlantSetsBySeedSource(Block source) {
+        FinalizedIndexes indexes = finalizedIndexes;
+        return indexes == null ? NO_SETS : indexes.setsByBlockSource.getOrDefault(source, NO_SETS);
+    }
+
+    /**
+     * @param source the seed source entity type.
+     * @return the shared array of (non-broken) plant sets that have the given
+     * entity type as a seed source. Empty if there are none, or if the plant sets
+     * have not been finalized. <b>Must not be modified.</b>
+     */
+    static PlantSet<?, ?>[] getPlantSetsBySeedSource(EntityType<?> source) {
+        FinalizedIndexes indexes = finalizedIndexes;
+        return indexes == null ? NO_SETS : indexes.setsByEntitySource.getOrDefault(source, NO_SETS);
+    }
+
+    /**
+     * @return the name and type indexes, building
+     * them if needed.
+     */
+    private static RegistrationIndexes getRegistrationIndexes() {
+        RegistrationIndexes indexes = registrationIndexes;
+
+        if(indexes == null)
+            registrationIndexes = indexes = new RegistrationIndexes(PLANT_SETS);
+
+        return indexes;
+    }
+
+    /**
+     * Builds the produce and seed source indexes. Called
+     * once every plant set has loaded its seed sources.
+     */
+    private static void buildFinalizedIndexes() {
+        finalizedIndexes = new FinalizedIndexes(PLANT_SETS);
+        LOG.debug("Built produce and seed source indexes for " + PLANT_SETS.size() + " plant sets.");
+    }
+
+    /**
+     * Shared empty plant set array.
+     */
+    private static final PlantSet<?, ?>[] NO_SETS = new PlantSet[0];
+
+    /**
+     * Immutable lookup tables of plant sets by name and type.
+     */
+    private static final class RegistrationIndexes {
+
+        private final Map<String, PlantSet<?, ?>> setsByName;
+
+        private final Map<String, Integer> indexByName;
+
+        private final Map<PlantSetAPI.SetType, PlantSet<?, ?>[]> setsByType;
+
+        private RegistrationIndexes(List<PlantSet<?, ?>> sets) {
+            Map<String, PlantSet<?, ?>> byName = new HashMap<>(sets.size() * 2);
+            Map<String, Integer> indexes = new HashMap<>(sets.size() * 2);
+            for(int i = 0; i < sets.size(); i++) {
+                byName.putIfAbsent(sets.get(i).getSetName(), sets.get(i));
+                indexes.putIfAbsent(sets.get(i).getSetName(), i);
+            }
+
+            Map<PlantSetAPI.SetType, PlantSet<?, ?>[]> byType = new EnumMap<>(PlantSetAPI.SetType.class);
+            for(PlantSetAPI.SetType type : PlantSetAPI.SetType.values())
+                byType.put(type, sets.stream().filter(type::matches).toArray(PlantSet<?, ?>[]::new));
+
+            this.setsByName = Collections.unmodifiableMap(byName);
+            this.indexByName = Collections.unmodifiableMap(indexes);
+            this.setsByType = Collections.unmodifiableMap(byType);
+        }
+    }
+
+    /**
+     * Immutable lookup tables of plant sets by produce and seed source.
+     */
+    private static final class FinalizedIndexes {
+
+        private final Map<Item, PlantSet<?, ?>> setsByProduce;
+
+        private final Map<Block, PlantSet<?, ?>[]> setsByBlockSource;
+
+        private final Map<EntityType<?>, PlantSet<?, ?>[]> setsByEntitySource;
+
+        private FinalizedIndexes(List<PlantSet<?, ?>> sets) {
+            Map<Item, PlantSet<?, ?>> byProduce = new HashMap<>(sets.size() * 2);
+            Map<Block, List<PlantSet<?, ?>>> byBlock = new HashMap<>();
+            Map<EntityType<?>, List<PlantSet<?, ?>>> byEntity = new HashMap<>();
+
+            for(PlantSet<?, ?> set : sets) {
+                byProduce.putIfAbsent(set.getProduceItem().asItem(), set);
+
+                if(set.isBroken() || set.getSeedSources() == null)
+                    continue;
+
+                for(Object source : set.getSeedSources()) {
+                    if(source instanceof Block)
+                        byBlock.computeIfAbsent((Block) source, b -> new ArrayList<>()).add(set);
+                    else if(source instanceof EntityType)
+                        byEntity.computeIfAbsent((EntityType<?>) source, e -> new ArrayList<>()).add(set);
+                }
+            }
+
+            this.setsByProduce = Collections.unmodifiableMap(byProduce);
+            this.setsByBlockSource = toArrays(byBlock);
+            this.setsByEntitySource = toArrays(byEntity);
+        }
+
+        private static <K> Map<K, PlantSet<?, ?>[]> toArrays(Map<K, List<PlantSet<?, ?>>> lists) {
+            Map<K, PlantSet<?, ?>[]> arrays = new HashMap<>(lists.size() * 2);
+            lists.forEach((key, sets) -> arrays.put(key, sets.toArray(NO_SETS)));
+            return Collections.unmodifiableMap(arrays);
+        }
+    }
+
     // ***************
     // Game Registerer
     // ***************
@@ -153,6 +352,8 @@ class PlantSetRegistry {
             } catch (IllegalStateException e) {
                 LOG.warn("Failed to finalize PlantSet initialization. Assuming PlantSets finalized earlier.", e);
             }
+
+            buildFinalizedIndexes();
         }
 
         /**
@@ -18,12 +18,19 @@ package com.ki11erwolf.resynth.plant.set;
 import com.ki11erwolf.resynth.packet.ClientAVEffectPacket;
 import com.ki11erwolf.resynth.packet.Packet;
 import com.ki11erwolf.resynth.util.MinecraftUtil;
+import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.network.PacketDistributor;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Allows implementing plant sets (e.g. {@link CrystallineSet})
  * to easily register game hooks that allow spawning
@@ -98,4 +105,72 @@ class PlantSetSeedHooks {
                 new ClientAVEffectPacket(ClientAVEffectPacket.AVEffect.SEEDS_SPAWNED, pos)
         );
     }
+
+    // **********
+    // Seed Batch
+    // **********
+
+    /**
+     * Collects many seed drops (e.g. from a single explosion) so that
+     * they can be spawned with one stack per seed type per position
+     * and announced to nearby players with a single effects packet.
+     */
+    static final class SeedDropBatch {
+
+        /**
+         * The number of each seeds item to drop, by position.
+         */
+        private final Map<BlockPos, Object2IntMap<Item>> drops = new LinkedHashMap<>();
+
+        /**
+         * The point the drops are centered around.
+         */
+        private final Vector3d center;
+
+        /**
+         * The distance from the center to the furthest drop.
+         */
+        private double radius = 0;
+
+        /**
+         * @param center the point the drops are centered around, used
+         * to find the players that should see the effects.
+         */
+        SeedDropBatch(Vector3d center){
+            this.center = center;
+        }
+
+        /**
+         * Queues a single seeds item to be dropped at the given position.
+         *
+         * @param seeds the seeds item to drop.
+         * @param pos the position to drop the seeds at.
+         */
+        void add(Item seeds, BlockPos pos){
+            drops.computeIfAbsent(pos, p -> new Object2IntArrayMap<>()).mergeInt(seeds, 1, Integer::sum);
+            radius = Math.max(radius, Math.sqrt(pos.distanceSq(center.x, center.y, center.z, true)));
+        }
+
+        /**
+         * Spawns every queued seed drop in the world and sends a single
+         * effects packet covering every drop position.
+         *
+         * @param world the world to spawn the seeds in.
+         */
+        void drop(World world){
+            if(drops.isEmpty())
+                return;
+
+            drops.forEach((pos, seeds) -> seeds.forEach(
+                    (item, count) -> MinecraftUtil.spawnItemStackInWorld(new ItemStack(item, count), world, pos)
+            ));
+
+            Packet.send(
+                    PacketDistributor.NEAR.with(() -> new PacketDistributor.TargetPoint(
+                            center.x, center.y, center.z, PLAYER_EFFECT_RADIUS + radius, world.getDimensionKey()
+                    )),
+                    new ClientAVEffectPacket(ClientAVEffectPacket.AVEffect.SEEDS_SPAWNED, drops.keySet())
+            );
+        }
+    }
 }
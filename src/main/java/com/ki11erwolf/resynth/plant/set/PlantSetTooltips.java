@@ -40,6 +40,11 @@ import java.util.List;
  */
 public class PlantSetTooltips {
 
+    /**
+     * Reference to the general config settings.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
     /**Private Constructor.*/
     private PlantSetTooltips(){}
 
@@ -65,7 +70,7 @@ public class PlantSetTooltips {
                             WordUtils.wrap(
                                     getFormattedTooltip("broken.information", TextFormatting.DARK_RED)
                                             .getUnformattedComponentText(),
-                                    ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).getTooltipCharacterLimit(),
+                                    GENERAL_CONFIG.getTooltipCharacterLimit(),
                                     "\n", true
                             )
                     ), TextFormatting.DARK_RED))
@@ -17,7 +17,10 @@
 package com.ki11erwolf.resynth.plant.set;
 
 import com.ki11erwolf.resynth.ResynthMod;
+import com.ki11erwolf.resynth.config.ConfigCategory;
+import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.packet.Packet;
+import com.ki11erwolf.resynth.packet.SetPropertiesHashesPacket;
 import com.ki11erwolf.resynth.packet.SyncSetPropertiesPacket;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractPlantSetProperties;
 import com.ki11erwolf.resynth.plant.set.properties.AbstractProduceProperties;
@@ -35,6 +38,10 @@ import net.minecraftforge.fml.network.PacketDistributor;
 import net.minecraftforge.fml.server.ServerLifecycleHooks;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 //TODO: Document
 enum PropertiesSynchronizer {
 
@@ -45,6 +52,15 @@ enum PropertiesSynchronizer {
      */
     private static final Logger LOG = ResynthMod.getNewLogger();
 
+    /**
+     * Registers for reloads of the plant set config files, so changed
+     * properties can be pushed to connected clients.
+     */
+    PropertiesSynchronizer() {
+        ResynthConfig.VANILLA_PLANTS_CONFIG.addReloadListener(this::handleConfigReload);
+        ResynthConfig.MODDED_PLANTS_CONFIG.addReloadListener(this::handleConfigReload);
+    }
+
     // ***
     // API
     // ***
@@ -71,24 +87,60 @@ enum PropertiesSynchronizer {
         else LOG.error("[Server] Cannot perform synchronization on Dedicated Server!");
     }
 
+    protected void handlePropertiesRestoring(String setName) {
+        if(SideUtil.isClientSafe())
+            restoreSetProperties(PlantSetAPI.getSetByName(setName));
+        else LOG.error("[Server] Cannot perform synchronization on Dedicated Server!");
+    }
+
+    protected void handleConfigReload(Set<ConfigCategory> changedCategories) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+
+        if(server != null)
+            server.execute(() -> synchronizeChangedSets(server, changedCategories));
+    }
+
     // **************
     // Implementation
     // **************
 
+    private void synchronizeChangedSets(MinecraftServer server, Set<ConfigCategory> changedCategories) {
+        List<PlantSet<?, ?>> changedSets = new ArrayList<>();
+        for(PlantSet<?, ?> plantSet : PlantSetRegistry.getPlantSets())
+            //noinspection SuspiciousMethodCalls //The properties are the config categories.
+            if(changedCategories.contains(plantSet.getPlantSetProperties())
+                    || changedCategories.contains(plantSet.getProduceProperties()))
+                changedSets.add(plantSet);
+
+        if(changedSets.isEmpty())
+            return;
+
+        LOG.info("[Server] " + changedSets.size() + " PlantSet Properties reloaded! Synchronizing connected clients...");
+        for(ServerPlayerEntity player : server.getPlayerList().getPlayers()) {
+            //Local clients share the servers properties.
+            if(!(server instanceof DedicatedServer) && player.getPlayerIP().equals("local"))
+                continue;
+
+            for(PlantSet<?, ?> plantSet : changedSets)
+                Packet.send(PacketDistributor.PLAYER.with(() -> player),
+                        new SyncSetPropertiesPacket(
+                                plantSet.getSetName(),
+                                plantSet.getPlantSetProperties(),
+                                plantSet.getProduceProperties()
+                        )
+                );
+        }
+    }
+
+
     private void synchronizeWithClient(ServerPlayerEntity connectedClient) {
         LOG.info("[Server] A Client(ip=" + connectedClient.getPlayerIP()+ ") has connected! " +
                 "Attempting to synchronize the client  with the servers PlantSet Properties...");
 
-        PlantSetRegistry.streamPlantSets().forEach(serverPlantSet -> {
-            LOG.debug("[Server] Sending synchronization request for the '" + serverPlantSet.getSetName() + "' PlantSet Properties");
-            Packet.send(PacketDistributor.PLAYER.with(() -> connectedClient),
-                    new SyncSetPropertiesPacket(
-                            serverPlantSet.getSetName(),
-                            serverPlantSet.getPlantSetProperties(),
-                            serverPlantSet.getProduceProperties()
-                    )
-            );
-        });
+        //The client requests the PlantSets that differ, which are then sent in bulk.
+        Packet.send(PacketDistributor.PLAYER.with(() -> connectedClient),
+                SetPropertiesHashesPacket.forSets(PlantSetRegistry.getPlantSets())
+        );
     }
 
     @OnlyIn(Dist.CLIENT)
@@ -101,6 +153,14 @@ enum PropertiesSynchronizer {
         } else LOG.error("[Client] Failed to synchronize! The requested PlantSet is unknown, invalid, or not registered!");
     }
 
+    @OnlyIn(Dist.CLIENT)
+    private void restoreSetProperties(PlantSet<?, ?> plantSet) {
+        if(plantSet != null){
+            plantSet.clearServerPlantSetProperties();
+            plantSet.clearServerPlantSetProduceProperties();
+        } else LOG.error("[Client] Failed to restore PlantSet Properties! The requested PlantSet is unknown, invalid, or not registered!");
+    }
+
     @OnlyIn(Dist.CLIENT)
     private void restoreClient() {
         LOG.info("[Client] Connected to local world! Ensuring PlantSets use Client Properties...");
@@ -17,14 +17,23 @@ package com.ki11erwolf.resynth.proxy;
 
 import com.ki11erwolf.resynth.ResynthMod;
 import com.ki11erwolf.resynth.analytics.ResynthAnalytics;
+import com.ki11erwolf.resynth.block.BlockMineralSoil;
+import com.ki11erwolf.resynth.block.soil.ChunkMineralContent;
 import com.ki11erwolf.resynth.config.ResynthConfig;
 import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import com.ki11erwolf.resynth.features.ResynthFeatures;
 import com.ki11erwolf.resynth.packet.Packet;
+import com.ki11erwolf.resynth.packet.PropertiesFormatComparison;
+import com.ki11erwolf.resynth.plant.block.ChunkGrowthRecord;
+import com.ki11erwolf.resynth.plant.block.GrowthScheduler;
 import net.minecraft.block.Block;
 import net.minecraft.item.Item;
 import net.minecraft.util.RegistryKey;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.minecraftforge.fml.event.server.FMLServerStartedEvent;
+import net.minecraftforge.fml.event.server.FMLServerStoppedEvent;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.apache.logging.log4j.Logger;
 
@@ -40,6 +49,11 @@ public class ServerProxy implements Proxy {
      */
     private static final Logger LOG = ResynthMod.getNewLogger();
 
+    /**
+     * Reference to the general config settings.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
     public ServerProxy() {
         LOG.info("Resynth ServerProxy initialized!");
     }
@@ -54,6 +68,8 @@ public class ServerProxy implements Proxy {
     public void onSetup(FMLCommonSetupEvent event) {
         ResynthAnalytics.init();
         Packet.init();
+        ChunkMineralContent.register();
+        ChunkGrowthRecord.register();
         ResynthFeatures.init();
 
         printItemAndBlockRegisters();
@@ -65,7 +81,7 @@ public class ServerProxy implements Proxy {
      * new modded plants.
      */
     private void printItemAndBlockRegisters(){
-        if(ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class).isDevHelpEnabled()){
+        if(GENERAL_CONFIG.isDevHelpEnabled()){
             for(Map.Entry<RegistryKey<Item>, Item> entry : ForgeRegistries.ITEMS.getEntries()){
                 LOG.info("<Resynth-Development-Help> | Found item: "
                         + entry.getKey().getRegistryName().getNamespace()+ ":"
@@ -79,4 +95,52 @@ public class ServerProxy implements Proxy {
             }
         }
     }
+
+    // *****
+    // Hooks
+    // *****
+
+    /**
+     * Reports the PlantSet properties sync format comparison when the
+     * server starts, and the development help counters when it stops.
+     * Subscribed on the Forge bus rather than routed through the proxy,
+     * so the counters are also reported by the integrated (singleplayer)
+     * server.
+     */
+    @Mod.EventBusSubscriber(modid = ResynthMod.MODID, bus = Mod.EventBusSubscriber.Bus.FORGE)
+    private static class Hooks {
+
+        /**
+         * Logs the size of, and time taken to encode, the PlantSet
+         * properties in the current and former sync formats, if the
+         * debug setting is enabled.
+         *
+         * @param event forge event.
+         */
+        @SubscribeEvent
+        public static void onServerStarted(FMLServerStartedEvent event){
+            if(GENERAL_CONFIG.isDevHelpEnabled())
+                PropertiesFormatComparison.log();
+        }
+
+        /**
+         * Reports how many Mineral Soil stage updates were performed
+         * and skipped, and how much queued plant growth was applied and
+         * carried over, if the debug setting is enabled.
+         *
+         * @param event forge event.
+         */
+        @SubscribeEvent
+        public static void onServerStopped(FMLServerStoppedEvent event){
+            if(!GENERAL_CONFIG.isDevHelpEnabled())
+                return;
+
+            LOG.info("<Resynth-Development-Help> | Mineral Soil stage updates: "
+                    + BlockMineralSoil.getStateUpdates() + " performed, "
+                    + BlockMineralSoil.getSuppressedStateUpdates() + " redundant updates skipped.");
+            LOG.info("<Resynth-Development-Help> | Queued plant growth: "
+                    + GrowthScheduler.getAppliedGrowths() + " applied, "
+                    + GrowthScheduler.getDeferredGrowths() + " carried over to a later tick.");
+        }
+    }
 }
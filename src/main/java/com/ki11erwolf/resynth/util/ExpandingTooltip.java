@@ -15,6 +15,8 @@
  */
 package com.ki11erwolf.resynth.util;
 
+import com.ki11erwolf.resynth.config.ResynthConfig;
+import com.ki11erwolf.resynth.config.categories.GeneralConfig;
 import net.minecraft.util.text.ITextComponent;
 
 import java.util.List;
@@ -28,6 +30,12 @@ import java.util.List;
  */
 public class ExpandingTooltip {
 
+    /**
+     * Reference to the general config settings - for
+     * tooltip settings.
+     */
+    private static final GeneralConfig GENERAL_CONFIG = ResynthConfig.GENERAL_CONFIG.getCategory(GeneralConfig.class);
+
     /**
      * The condition flag that determines if the collapsed
      * or expanded tooltip is shown. The flag is set to
@@ -158,8 +166,8 @@ public class ExpandingTooltip {
     public ExpandingTooltip setCtrlForDescription(Tooltip expanded){
         boolean isFiring = CommonRKeys.CONTROL.rKey.query();
 
-        setCondition(isFiring && Tooltip.areTooltipsEnabled())
-                .setCollapsedTooltip(Tooltip.areTooltipsEnabled() ? CommonTooltips.CTRL_FOR_DESCRIPTION : CommonTooltips.NULL)
+        setCondition(isFiring && GENERAL_CONFIG.areTooltipsEnabled())
+                .setCollapsedTooltip(GENERAL_CONFIG.areTooltipsEnabled() ? CommonTooltips.CTRL_FOR_DESCRIPTION : CommonTooltips.NULL)
                 .setExpandedTooltip(expanded);
 
         return this;
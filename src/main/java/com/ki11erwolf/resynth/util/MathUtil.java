@@ -18,6 +18,7 @@ package com.ki11erwolf.resynth.util;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 
 /**
@@ -107,6 +108,59 @@ public final class MathUtil {
         else return Math.max(in, min);
     }
 
+    /**
+     * Rolls a percentage chance using the given random, without
+     * allocating any objects. Prefer this over {@link Probability}
+     * in frequently called code.
+     *
+     * @param random the random to draw from, e.g. the worlds random.
+     * @param percentage the chance of success (0.0-100.0).
+     * @return {@code true} if the roll succeeded.
+     */
+    public static boolean rollPercent(Random random, double percentage) {
+        return rollProbability(random, percentage / 100D);
+    }
+
+    /**
+     * Rolls a probability using the given random, without
+     * allocating any objects. Prefer this over {@link Probability}
+     * in frequently called code.
+     *
+     * @param random the random to draw from, e.g. the worlds random.
+     * @param probability the chance of success (0.0-1.0).
+     * @return {@code true} if the roll succeeded.
+     */
+    public static boolean rollProbability(Random random, double probability) {
+        if(probability <= 0.0D)
+            return false;
+        else if(probability >= 1.0D)
+            return true;
+
+        return random.nextDouble() < probability;
+    }
+
+    /**
+     * Samples a geometric distribution: the number of trials up to and
+     * including the first successful one, when each trial succeeds with
+     * the given probability. Lets frequently called code jump straight to
+     * the next success instead of rolling every trial.
+     *
+     * @param random the random to draw from, e.g. the worlds random.
+     * @param probability the chance (0.0-1.0) each trial succeeds.
+     * @param max the largest number of trials to return.
+     * @return the number of trials until success, at least 1 and at most
+     * {@code max}. {@code max} if the probability is 0 or less.
+     */
+    public static int sampleGeometric(Random random, double probability, int max) {
+        if(probability >= 1.0D)
+            return 1;
+        else if(probability <= 0.0D)
+            return max;
+
+        double trials = Math.floor(Math.log(1D - random.nextDouble()) / Math.log1p(-probability)) + 1;
+        return trials >= max ? max : Math.max((int) trials, 1);
+    }
+
     public static class Probability {
 
         private final double probability;
@@ -141,13 +195,13 @@ public final class MathUtil {
 
         public Result randomResult() {
             if(probability <= 0.0D)
-                return new Result(false);
+                return Result.FALSE;
             else if (probability >= 1.0D)
-                return new Result(true);
+                return Result.TRUE;
             else if (probability == 0.50D)
-                return new Result(RANDOM_INSTANCE.nextBoolean());
+                return Result.of(ThreadLocalRandom.current().nextBoolean());
 
-            return new Result(RANDOM_INSTANCE.nextFloat() < probability);
+            return Result.of(ThreadLocalRandom.current().nextDouble() < probability);
         }
 
         public double getProbability() {
@@ -170,12 +224,20 @@ public final class MathUtil {
 
         public static class Result {
 
+            private static final Result TRUE = new Result(true);
+
+            private static final Result FALSE = new Result(false);
+
             private final boolean value;
 
             private Result(boolean value) {
                 this.value = value;
             }
 
+            private static Result of(boolean value) {
+                return value ? TRUE : FALSE;
+            }
+
             public boolean get() {
                 return this.value;
             }
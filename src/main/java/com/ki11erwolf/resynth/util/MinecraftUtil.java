@@ -19,6 +19,7 @@ import net.minecraft.entity.item.ItemEntity;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
 /**
@@ -47,4 +48,43 @@ public class MinecraftUtil {
     public static boolean spawnItemStackInWorld(ItemStack stack, World world, BlockPos pos){
         return world.addEntity(new ItemEntity(world,pos.getX(), pos.getY(), pos.getZ(), stack));
     }
+
+    /**
+     * Packs the chunk relative position of the given block position into
+     * a {@code short}: 8 bits of height and 4 bits each of chunk relative
+     * x and z. Used to key per chunk data by block position.
+     *
+     * @param pos the block position.
+     * @return the packed position.
+     */
+    public static short packChunkRelative(BlockPos pos){
+        return packChunkRelative(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Packs the chunk relative position of the given block
+     * coordinates into a {@code short}, the same as
+     * {@link #packChunkRelative(BlockPos)}.
+     *
+     * @param x the block x coordinate.
+     * @param y the block y coordinate.
+     * @param z the block z coordinate.
+     * @return the packed position.
+     */
+    public static short packChunkRelative(int x, int y, int z){
+        return (short) ((y & 0xFF) << 8 | (z & 0xF) << 4 | (x & 0xF));
+    }
+
+    /**
+     * Sets the given mutable position to a position packed
+     * by {@link #packChunkRelative(BlockPos)}.
+     *
+     * @param packed the packed position.
+     * @param chunk the chunk the position is in.
+     * @param pos the mutable position to set.
+     * @return {@code pos}.
+     */
+    public static BlockPos.Mutable unpackChunkRelative(short packed, ChunkPos chunk, BlockPos.Mutable pos){
+        return pos.setPos(chunk.getXStart() + (packed & 0xF), (packed >> 8) & 0xFF, chunk.getZStart() + ((packed >> 4) & 0xF));
+    }
 }
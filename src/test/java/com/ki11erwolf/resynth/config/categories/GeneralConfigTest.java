@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.config.categories;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the light growth multiplier computed by {@link GeneralConfig}.
+ */
+public class GeneralConfigTest {
+
+    /**
+     * Allowed floating point error.
+     */
+    private static final double DELTA = 1.0E-9;
+
+    /**
+     * The multiplier is exactly 1 at the zero point, whatever the worth.
+     */
+    @Test
+    public void multiplierIsOneAtZeroPoint(){
+        assertEquals(1D, GeneralConfig.computeLightGrowthMultiplier(9, 9, 0.25, 0.5), DELTA);
+        assertEquals(1D, GeneralConfig.computeLightGrowthMultiplier(0, 0, 3, 3), DELTA);
+    }
+
+    /**
+     * Without interest, every light level is worth the same.
+     */
+    @Test
+    public void multiplierIsLinearWithoutInterest(){
+        assertEquals(1.3, GeneralConfig.computeLightGrowthMultiplier(12, 9, 0.1, 0), DELTA);
+        assertEquals(0.7, GeneralConfig.computeLightGrowthMultiplier(6, 9, 0.1, 0), DELTA);
+    }
+
+    /**
+     * With interest, each successive light level is worth
+     * more - the sum of an arithmetic series.
+     */
+    @Test
+    public void multiplierAddsInterestPerLevel(){
+        //2 levels: 2 * 0.1 + 0.05 * (1 + 2)
+        assertEquals(1.35, GeneralConfig.computeLightGrowthMultiplier(11, 9, 0.1, 0.05), DELTA);
+        assertEquals(0.65, GeneralConfig.computeLightGrowthMultiplier(7, 9, 0.1, 0.05), DELTA);
+    }
+
+    /**
+     * The multiplier never drops below 0, however far below the zero point.
+     */
+    @Test
+    public void multiplierIsNeverNegative(){
+        assertEquals(0D, GeneralConfig.computeLightGrowthMultiplier(0, 15, 1, 1), DELTA);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.packet;
+
+import com.ki11erwolf.resynth.plant.set.properties.*;
+import io.netty.buffer.Unpooled;
+import net.minecraft.network.PacketBuffer;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the binary properties encoding of {@link PropertiesCodec}:
+ * round trips, and rejection of malformed input.
+ */
+public class PropertiesCodecTest {
+
+    /**
+     * Biochemical properties are read back unchanged.
+     */
+    @Test
+    public void biochemicalPropertiesRoundTrip(){
+        AbstractBiochemicalProperties read = (AbstractBiochemicalProperties) roundTrip(
+                new BiochemicalProperties(true, 12.5F, 3, 0.25F, 7.75F)
+        );
+
+        assertEquals(true, read.bonemealGrowth());
+        assertEquals(12.5F, read.growthProbability(), 0);
+        assertEquals(3, read.plantYield());
+        assertEquals(0.25F, read.seedSpawnChanceFromMob(), 0);
+        assertEquals(7.75F, read.seedSpawnChanceFromBulb(), 0);
+    }
+
+    /**
+     * Crystalline properties are read back unchanged.
+     */
+    @Test
+    public void crystallinePropertiesRoundTrip(){
+        AbstractCrystallineProperties read = (AbstractCrystallineProperties) roundTrip(
+                new CrystallineProperties(false, 4F, 2, 1.5F, 30F, 9)
+        );
+
+        assertEquals(false, read.bonemealGrowth());
+        assertEquals(4F, read.growthProbability(), 0);
+        assertEquals(2, read.plantYield());
+        assertEquals(1.5F, read.seedSpawnChanceFromOre(), 0);
+        assertEquals(30F, read.seedSpawnChanceFromShard(), 0);
+        assertEquals(9, read.seedCraftingYield());
+    }
+
+    /**
+     * Metallic properties are read back unchanged.
+     */
+    @Test
+    public void metallicPropertiesRoundTrip(){
+        AbstractMetallicProperties read = (AbstractMetallicProperties) roundTrip(
+                new MetallicProperties(true, 0.1F, 2.5F, 5F)
+        );
+
+        assertEquals(true, read.bonemealGrowth());
+        assertEquals(0.1F, read.growthProbability(), 0);
+        assertEquals(2.5F, read.seedSpawnChanceFromOre(), 0);
+        assertEquals(5F, read.seedSpawnChanceFromOrganicOre(), 0);
+    }
+
+    /**
+     * Produce properties are read back unchanged.
+     */
+    @Test
+    public void producePropertiesRoundTrip(){
+        PacketBuffer buffer = newBuffer();
+        PropertiesCodec.writeProduceProperties(new ProduceProperties(4, 300, 1.25), buffer);
+        AbstractProduceProperties read = PropertiesCodec.readProduceProperties(buffer);
+
+        assertEquals(4, read.produceYield());
+        assertEquals(300, read.timePerYield());
+        assertEquals(1.25, read.experiencePoints(), 0);
+        assertEquals(0, buffer.readableBytes());
+    }
+
+    /**
+     * The properties hash only changes with the properties.
+     */
+    @Test
+    public void hashFollowsProperties(){
+        ProduceProperties produce = new ProduceProperties(4, 300, 1.25);
+
+        assertEquals(
+                PropertiesCodec.hashProperties(new MetallicProperties(true, 2F, 2.5F, 5F), produce),
+                PropertiesCodec.hashProperties(new MetallicProperties(true, 2F, 2.5F, 5F), produce)
+        );
+        assertNotEquals(
+                PropertiesCodec.hashProperties(new MetallicProperties(true, 2F, 2.5F, 5F), produce),
+                PropertiesCodec.hashProperties(new MetallicProperties(true, 3F, 2.5F, 5F), produce)
+        );
+    }
+
+    /**
+     * Compressed payloads are read back unchanged.
+     */
+    @Test
+    public void compressedPayloadRoundTrip(){
+        PacketBuffer payload = newBuffer();
+        for(int i = 0; i < 1000; i++)
+            payload.writeVarInt(i % 10);
+
+        byte[] expected = new byte[payload.readableBytes()];
+        payload.getBytes(payload.readerIndex(), expected);
+
+        PacketBuffer buffer = newBuffer();
+        PropertiesCodec.writeCompressed(payload, buffer);
+        assertTrue(buffer.readableBytes() < expected.length);
+
+        PacketBuffer read = PropertiesCodec.readCompressed(buffer);
+        byte[] actual = new byte[read.readableBytes()];
+        read.readBytes(actual);
+
+        assertEquals(expected.length, actual.length);
+        for(int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], actual[i]);
+    }
+
+    /**
+     * An unknown set type is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownSetTypeIsRejected(){
+        PacketBuffer buffer = newBuffer();
+        buffer.writeByte(42);
+        buffer.writeBoolean(true);
+        buffer.writeFloat(1F);
+
+        PropertiesCodec.readSetProperties(buffer);
+    }
+
+    /**
+     * A negative uncompressed length is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCompressedLengthIsRejected(){
+        PacketBuffer buffer = newBuffer();
+        buffer.writeVarInt(-1);
+        buffer.writeByteArray(new byte[0]);
+
+        PropertiesCodec.readCompressed(buffer);
+    }
+
+    /**
+     * An uncompressed length over the limit is rejected
+     * before anything is decompressed.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void oversizedCompressedLengthIsRejected(){
+        PacketBuffer buffer = newBuffer();
+        buffer.writeVarInt(Integer.MAX_VALUE);
+        buffer.writeByteArray(new byte[0]);
+
+        PropertiesCodec.readCompressed(buffer);
+    }
+
+    /**
+     * Bytes that are not Deflate data are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void corruptCompressedPayloadIsRejected(){
+        PacketBuffer buffer = newBuffer();
+        buffer.writeVarInt(4);
+        buffer.writeByteArray(new byte[]{1, 2, 3, 4});
+
+        PropertiesCodec.readCompressed(buffer);
+    }
+
+    /**
+     * A payload that does not match its stated length is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void mismatchedCompressedLengthIsRejected(){
+        PacketBuffer payload = newBuffer();
+        payload.writeBytes(new byte[]{1, 2, 3, 4, 5});
+
+        PacketBuffer compressed = newBuffer();
+        PropertiesCodec.writeCompressed(payload, compressed);
+        compressed.readVarInt();
+
+        PacketBuffer buffer = newBuffer();
+        buffer.writeVarInt(6);
+        buffer.writeBytes(compressed);
+
+        PropertiesCodec.readCompressed(buffer);
+    }
+
+    // *******
+    // Helpers
+    // *******
+
+    /**
+     * @return a new, empty, heap buffer.
+     */
+    private static PacketBuffer newBuffer(){
+        return new PacketBuffer(Unpooled.buffer());
+    }
+
+    /**
+     * Writes &amp; reads back the given properties, checking
+     * the whole encoding is read.
+     *
+     * @param properties the properties to write.
+     * @return the properties read back.
+     */
+    private static AbstractPlantSetProperties roundTrip(AbstractPlantSetProperties properties){
+        PacketBuffer buffer = newBuffer();
+        PropertiesCodec.writeSetProperties(properties, buffer);
+
+        AbstractPlantSetProperties read = PropertiesCodec.readSetProperties(buffer);
+        assertEquals(0, buffer.readableBytes());
+        return read;
+    }
+}
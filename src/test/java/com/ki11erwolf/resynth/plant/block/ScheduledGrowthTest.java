@@ -0,0 +1,84 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.plant.block;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the per tick growth chance worked out by {@link ScheduledGrowth}.
+ */
+public class ScheduledGrowthTest {
+
+    /**
+     * The number of blocks in a chunk section.
+     */
+    private static final double SECTION_VOLUME = 4096;
+
+    /**
+     * Allowed floating point error.
+     */
+    private static final double DELTA = 1.0E-15;
+
+    /**
+     * Nothing grows without random ticks, or without a chance to grow.
+     */
+    @Test
+    public void noChanceWithoutTicksOrGrowth(){
+        assertEquals(0D, ScheduledGrowth.getChancePerTick(0, 50), 0);
+        assertEquals(0D, ScheduledGrowth.getChancePerTick(-3, 50), 0);
+        assertEquals(0D, ScheduledGrowth.getChancePerTick(3, 0), 0);
+        assertEquals(0D, ScheduledGrowth.getChancePerTick(3, -10), 0);
+    }
+
+    /**
+     * With one draw, the chance is that of being picked, and growing.
+     */
+    @Test
+    public void singleDrawIsPickAndGrowChance(){
+        assertEquals(1 / SECTION_VOLUME, ScheduledGrowth.getChancePerTick(1, 100), DELTA);
+        assertEquals(0.25 / SECTION_VOLUME, ScheduledGrowth.getChancePerTick(1, 25), DELTA);
+    }
+
+    /**
+     * With many draws, the chance is that of growing at least once.
+     */
+    @Test
+    public void manyDrawsGrowAtLeastOnce(){
+        double perDraw = 0.5 / SECTION_VOLUME;
+        assertEquals(1 - Math.pow(1 - perDraw, 3), ScheduledGrowth.getChancePerTick(3, 50), DELTA);
+        assertEquals(1 - Math.pow(1 - perDraw, 1000), ScheduledGrowth.getChancePerTick(1000, 50), DELTA);
+    }
+
+    /**
+     * Chances over 100% grow as if certain when picked.
+     */
+    @Test
+    public void chanceIsCappedAtCertain(){
+        assertEquals(ScheduledGrowth.getChancePerTick(3, 100), ScheduledGrowth.getChancePerTick(3, 250), 0);
+    }
+
+    /**
+     * More draws, or a higher chance, never lowers the chance per tick.
+     */
+    @Test
+    public void chanceIncreasesWithSpeedAndGrowth(){
+        assertTrue(ScheduledGrowth.getChancePerTick(4, 10) > ScheduledGrowth.getChancePerTick(3, 10));
+        assertTrue(ScheduledGrowth.getChancePerTick(3, 11) > ScheduledGrowth.getChancePerTick(3, 10));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018-2021 Ki11er_wolf
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ki11erwolf.resynth.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the geometric sampling in {@link MathUtil}.
+ */
+public class MathUtilTest {
+
+    /**
+     * Seed of the random used, so the tests are repeatable.
+     */
+    private static final long SEED = 1234L;
+
+    /**
+     * A certain trial always succeeds first.
+     */
+    @Test
+    public void certainProbabilitySucceedsOnFirstTrial(){
+        Random random = new Random(SEED);
+        assertEquals(1, MathUtil.sampleGeometric(random, 1D, 100));
+        assertEquals(1, MathUtil.sampleGeometric(random, 2D, 100));
+    }
+
+    /**
+     * An impossible trial never succeeds, giving the maximum.
+     */
+    @Test
+    public void impossibleProbabilityGivesMax(){
+        Random random = new Random(SEED);
+        assertEquals(100, MathUtil.sampleGeometric(random, 0D, 100));
+        assertEquals(100, MathUtil.sampleGeometric(random, -1D, 100));
+    }
+
+    /**
+     * Samples always lie between 1 and the maximum, inclusive.
+     */
+    @Test
+    public void samplesAreWithinBounds(){
+        Random random = new Random(SEED);
+
+        for(int i = 0; i < 10_000; i++){
+            int trials = MathUtil.sampleGeometric(random, 0.01, 50);
+            assertTrue("Out of bounds: " + trials, trials >= 1 && trials <= 50);
+        }
+    }
+
+    /**
+     * The mean number of trials is {@code 1 / probability}.
+     */
+    @Test
+    public void samplesHaveGeometricMean(){
+        Random random = new Random(SEED);
+        int samples = 100_000;
+        long total = 0;
+
+        for(int i = 0; i < samples; i++)
+            total += MathUtil.sampleGeometric(random, 0.1, Integer.MAX_VALUE);
+
+        //Standard error is ~0.03.
+        assertEquals(10D, (double) total / samples, 0.2);
+    }
+}